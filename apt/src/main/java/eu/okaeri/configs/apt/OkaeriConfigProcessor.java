@@ -0,0 +1,561 @@
+package eu.okaeri.configs.apt;
+
+import eu.okaeri.configs.annotation.*;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Generates {@code <Config>_OkaeriDeclaration} classes for every {@code OkaeriConfig}
+ * subclass in the compilation, so that the runtime can skip reflective field scanning.
+ * <p>
+ * The processor mirrors the rules of the reflective {@code ConfigDeclaration}: source-order
+ * fields (excluding static, transient and {@link Exclude}), {@link CustomKey} and {@link Names}
+ * key mapping, {@link Comment}/{@link Header} texts, {@link Include} merging, {@link Variable}
+ * and {@link Serdes}. Accessible fields are read and written directly by generated accessors.
+ * Anything that cannot be expressed in source (inaccessible types, type variables, final fields)
+ * falls back to the reflective path for that single field, and classes that cannot be expressed
+ * at all are skipped entirely.
+ */
+@SupportedAnnotationTypes("*")
+public class OkaeriConfigProcessor extends AbstractProcessor {
+
+    private static final String OKAERI_CONFIG = "eu.okaeri.configs.OkaeriConfig";
+    private static final String OBJECT_SERIALIZER = "eu.okaeri.configs.serdes.ObjectSerializer";
+    private static final String SUFFIX = "_OkaeriDeclaration";
+
+    private static final String SCHEMA = "eu.okaeri.configs.schema.";
+    private static final String INDENT = "        ";
+
+    private final Set<String> generated = new HashSet<>();
+
+    private Elements elements;
+    private Types types;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+
+        this.elements = this.processingEnv.getElementUtils();
+        this.types = this.processingEnv.getTypeUtils();
+
+        TypeElement config = this.elements.getTypeElement(OKAERI_CONFIG);
+        if (config == null) {
+            return false;
+        }
+
+        TypeMirror configType = this.types.erasure(config.asType());
+        for (Element element : roundEnv.getRootElements()) {
+            this.scan(element, configType);
+        }
+
+        // never claim annotations, other processors (e.g. lombok) still need them
+        return false;
+    }
+
+    private void scan(Element element, TypeMirror configType) {
+
+        if (!(element instanceof TypeElement)) {
+            return;
+        }
+
+        TypeElement type = (TypeElement) element;
+        if ((type.getKind() == ElementKind.CLASS) && this.types.isSubtype(this.types.erasure(type.asType()), configType)) {
+            this.process(type);
+        }
+
+        for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+            this.scan(nested, configType);
+        }
+    }
+
+    private void process(TypeElement type) {
+
+        String pkg = this.elements.getPackageOf(type).getQualifiedName().toString();
+        String binaryName = this.elements.getBinaryName(type).toString();
+        String generatedName = binaryName.replace('$', '_') + SUFFIX;
+
+        if (!this.generated.add(generatedName) || !this.accessible(type, pkg)) {
+            return;
+        }
+
+        String source;
+        try {
+            source = this.render(type, pkg, generatedName);
+        } catch (UnsupportedConfigException exception) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                "okaeri-configs: skipped declaration for " + binaryName + " (" + exception.getMessage() + "), reflection will be used", type);
+            return;
+        }
+
+        try {
+            JavaFileObject file = this.processingEnv.getFiler().createSourceFile(generatedName, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source);
+            }
+        } catch (IOException exception) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                "okaeri-configs: failed to write " + generatedName + ": " + exception.getMessage(), type);
+        }
+    }
+
+    private String render(TypeElement type, String pkg, String generatedName) {
+
+        Names names = null;
+        TypeElement namesHolder = null;
+        for (Element current = type; current instanceof TypeElement; current = current.getEnclosingElement()) {
+            names = current.getAnnotation(Names.class);
+            if (names != null) {
+                namesHolder = (TypeElement) current;
+                break;
+            }
+        }
+
+        // resolve fields as the runtime does: own fields first, then @Include-d ones not overridden by key
+        Map<String, VariableElement> fields = this.readFields(type, names);
+        for (TypeElement include : this.readIncludes(type)) {
+            if (!this.types.isSubtype(this.types.erasure(type.asType()), this.types.erasure(include.asType()))) {
+                throw new UnsupportedConfigException("invalid @Include of " + include.getQualifiedName());
+            }
+            this.readFields(include, names).forEach(fields::putIfAbsent);
+        }
+
+        String simpleName = generatedName.substring(generatedName.lastIndexOf('.') + 1);
+        StringBuilder out = new StringBuilder();
+
+        if (!pkg.isEmpty()) {
+            out.append("package ").append(pkg).append(";\n\n");
+        }
+
+        out.append("// generated by ").append(this.getClass().getName()).append(", do not edit\n");
+        out.append("@SuppressWarnings({\"unchecked\", \"rawtypes\", \"deprecation\"})\n");
+        out.append("public final class ").append(simpleName).append(" extends ").append(SCHEMA).append("GeneratedDeclaration {\n\n");
+        out.append("    @Override\n");
+        out.append("    public ").append(SCHEMA).append("ConfigDeclaration declare() {\n\n");
+
+        String typeName = this.rawName(type.asType());
+        String namesExpression = "null";
+        if (namesHolder != null) {
+            if (!this.accessible(namesHolder, pkg)) {
+                throw new UnsupportedConfigException("@Names holder not accessible");
+            }
+            namesExpression = this.rawName(namesHolder.asType()) + ".class.getAnnotation(" + Names.class.getName() + ".class)";
+        }
+
+        out.append(INDENT).append(SCHEMA).append("ConfigDeclaration declaration = declaration(")
+            .append(typeName).append(".class, ")
+            .append(namesExpression).append(", ")
+            .append(this.stringArray(this.readHeader(type))).append(");\n");
+
+        int index = 0;
+        for (Map.Entry<String, VariableElement> entry : fields.entrySet()) {
+            this.renderField(out, pkg, entry.getKey(), entry.getValue(), index++);
+        }
+
+        out.append("\n").append(INDENT).append("return declaration;\n");
+        out.append("    }\n");
+        out.append("}\n");
+
+        return out.toString();
+    }
+
+    private void renderField(StringBuilder out, String pkg, String name, VariableElement field, int index) {
+
+        TypeElement declaring = (TypeElement) field.getEnclosingElement();
+        if (!this.accessible(declaring, pkg)) {
+            throw new UnsupportedConfigException("declaring class of " + field.getSimpleName() + " not accessible");
+        }
+
+        String fieldVar = "field" + index;
+        String declarationVar = "fieldDeclaration" + index;
+        String declaringName = this.rawName(declaring.asType());
+
+        out.append("\n").append(INDENT).append("java.lang.reflect.Field ").append(fieldVar).append(" = lookupField(")
+            .append(declaringName).append(".class, ")
+            .append(this.elements.getConstantExpression(field.getSimpleName().toString())).append(");\n");
+
+        TypeMirror fieldType = field.asType();
+        String typeExpression = this.typeExpression(fieldType, pkg);
+        String serializer = this.serializerExpression(field, pkg);
+
+        // not expressible in source, let the runtime build this one reflectively
+        if ((typeExpression == null) || ((serializer == null) && this.hasSerdes(field))) {
+            out.append(INDENT).append("add(declaration, reflectField(declaration, ").append(fieldVar).append("));\n");
+            return;
+        }
+
+        out.append(INDENT).append(SCHEMA).append("FieldDeclaration ").append(declarationVar).append(" = declareField(")
+            .append(fieldVar).append(", ")
+            .append(this.elements.getConstantExpression(name)).append(", ")
+            .append(this.stringArray(this.readComments(field))).append(", ")
+            .append(typeExpression).append(", ")
+            .append(this.accessorExpression(field, declaringName, fieldVar, pkg)).append(");\n");
+
+        if (field.getAnnotation(Variable.class) != null) {
+            out.append(INDENT).append(declarationVar).append(".setVariable(").append(fieldVar)
+                .append(".getAnnotation(").append(Variable.class.getName()).append(".class));\n");
+        }
+
+        if (serializer != null) {
+            out.append(INDENT).append("serdes(").append(declarationVar).append(", ").append(serializer).append(");\n");
+        }
+
+        out.append(INDENT).append("add(declaration, ").append(declarationVar).append(");\n");
+    }
+
+    private String accessorExpression(VariableElement field, String declaringName, String fieldVar, String pkg) {
+
+        Set<Modifier> modifiers = field.getModifiers();
+        boolean direct = !modifiers.contains(Modifier.FINAL) && this.accessible(field, pkg);
+        if (!direct) {
+            return "reflectAccessor(" + fieldVar + ")";
+        }
+
+        TypeMirror type = field.asType();
+        String access = "((" + declaringName + ") target)." + field.getSimpleName();
+        String indent = INDENT + "    ";
+        String body = indent + "    ";
+
+        StringBuilder out = new StringBuilder();
+        out.append("new ").append(SCHEMA).append("GeneratedDeclaration.Accessor(").append(fieldVar).append(") {\n");
+
+        out.append(indent).append("@Override\n");
+        out.append(indent).append("public Object get(Object target) {\n");
+        out.append(body).append("return ").append(access).append(";\n");
+        out.append(indent).append("}\n");
+
+        String checkedType = type.getKind().isPrimitive()
+            ? this.types.boxedClass((javax.lang.model.type.PrimitiveType) type).getQualifiedName().toString()
+            : this.rawName(type);
+        String check = type.getKind().isPrimitive()
+            ? "!(value instanceof " + checkedType + ")"
+            : "(value != null) && !(value instanceof " + checkedType + ")";
+
+        out.append(indent).append("@Override\n");
+        out.append(indent).append("public void set(Object target, Object value) {\n");
+        out.append(body).append("if (").append(check).append(") throw this.invalidValue(value);\n");
+        out.append(body).append(access).append(" = (").append(checkedType).append(") value;\n");
+        out.append(indent).append("}\n");
+
+        // primitive fields also get specialized accessors to skip boxing
+        if (type.getKind().isPrimitive()) {
+            String primitive = type.getKind().name().toLowerCase(Locale.ROOT);
+            String suffix = (type.getKind() == TypeKind.CHAR) ? "Char" : (Character.toUpperCase(primitive.charAt(0)) + primitive.substring(1));
+            out.append(indent).append("@Override\n");
+            out.append(indent).append("public ").append(primitive).append(" get").append(suffix).append("(Object target) {\n");
+            out.append(body).append("return ").append(access).append(";\n");
+            out.append(indent).append("}\n");
+            out.append(indent).append("@Override\n");
+            out.append(indent).append("public void set").append(suffix).append("(Object target, ").append(primitive).append(" value) {\n");
+            out.append(body).append(access).append(" = value;\n");
+            out.append(indent).append("}\n");
+        }
+
+        out.append(INDENT).append("}");
+        return out.toString();
+    }
+
+    private Map<String, VariableElement> readFields(TypeElement type, Names names) {
+
+        Map<String, VariableElement> fields = new LinkedHashMap<>();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+
+            Set<Modifier> modifiers = field.getModifiers();
+            if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT) || (field.getAnnotation(Exclude.class) != null)) {
+                continue;
+            }
+
+            String name = this.readName(field, names);
+            if (fields.put(name, field) != null) {
+                throw new UnsupportedConfigException("duplicate key " + name);
+            }
+        }
+
+        return fields;
+    }
+
+    private String readName(VariableElement field, Names names) {
+
+        String fieldName = field.getSimpleName().toString();
+
+        CustomKey customKey = field.getAnnotation(CustomKey.class);
+        if (customKey != null) {
+            return "".equals(customKey.value()) ? fieldName : customKey.value();
+        }
+
+        if (names == null) {
+            return fieldName;
+        }
+
+        NameStrategy strategy = names.strategy();
+        NameModifier modifier = names.modifier();
+
+        String name = strategy.getRegex().matcher(fieldName).replaceAll(strategy.getReplacement());
+        if (modifier == NameModifier.TO_UPPER_CASE) {
+            name = name.toUpperCase(Locale.ROOT);
+        } else if (modifier == NameModifier.TO_LOWER_CASE) {
+            name = name.toLowerCase(Locale.ROOT);
+        }
+
+        return name;
+    }
+
+    private List<TypeElement> readIncludes(TypeElement type) {
+
+        List<TypeElement> includes = new ArrayList<>();
+        for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+
+            String annotation = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+            if (Include.class.getName().equals(annotation)) {
+                includes.add(this.classValue(mirror, "value"));
+                continue;
+            }
+
+            if (Includes.class.getName().equals(annotation)) {
+                AnnotationValue value = this.value(mirror, "value");
+                for (Object element : (List<?>) value.getValue()) {
+                    includes.add(this.classValue((AnnotationMirror) ((AnnotationValue) element).getValue(), "value"));
+                }
+            }
+        }
+
+        return includes;
+    }
+
+    private String[] readHeader(TypeElement type) {
+
+        Headers headers = type.getAnnotation(Headers.class);
+        if (headers != null) {
+            List<String> headerList = new ArrayList<>();
+            for (Header header : headers.value()) {
+                headerList.addAll(Arrays.asList(header.value()));
+            }
+            return headerList.toArray(new String[0]);
+        }
+
+        Header header = type.getAnnotation(Header.class);
+        return (header == null) ? null : header.value();
+    }
+
+    private String[] readComments(VariableElement field) {
+
+        Comments comments = field.getAnnotation(Comments.class);
+        if (comments != null) {
+            List<String> commentList = new ArrayList<>();
+            for (Comment comment : comments.value()) {
+                commentList.addAll(Arrays.asList(comment.value()));
+            }
+            return commentList.toArray(new String[0]);
+        }
+
+        Comment comment = field.getAnnotation(Comment.class);
+        return (comment == null) ? null : comment.value();
+    }
+
+    private boolean hasSerdes(VariableElement field) {
+        return this.findMirror(field, Serdes.class.getName()) != null;
+    }
+
+    private String serializerExpression(VariableElement field, String pkg) {
+
+        AnnotationMirror mirror = this.findMirror(field, Serdes.class.getName());
+        if (mirror == null) {
+            return null;
+        }
+
+        TypeElement serializer = this.classValue(mirror, "serializer");
+        if (serializer.getModifiers().contains(Modifier.ABSTRACT) || !this.accessible(serializer, pkg)) {
+            return null;
+        }
+
+        // nested non-static classes cannot be created without an outer instance
+        if ((serializer.getNestingKind() == NestingKind.MEMBER) && !serializer.getModifiers().contains(Modifier.STATIC)) {
+            return null;
+        }
+
+        TypeElement objectSerializer = this.elements.getTypeElement(OBJECT_SERIALIZER);
+        if ((objectSerializer == null) || !this.types.isSubtype(this.types.erasure(serializer.asType()), this.types.erasure(objectSerializer.asType()))) {
+            return null;
+        }
+
+        // runtime uses Class#newInstance, which requires a public no-args constructor
+        boolean constructor = ElementFilter.constructorsIn(serializer.getEnclosedElements()).stream()
+            .anyMatch(candidate -> candidate.getParameters().isEmpty() && candidate.getModifiers().contains(Modifier.PUBLIC));
+        if (!constructor) {
+            return null;
+        }
+
+        return "new " + this.rawName(serializer.asType()) + "()";
+    }
+
+    private String typeExpression(TypeMirror type, String pkg) {
+
+        if (type.getKind().isPrimitive()) {
+            return "type(" + this.rawName(type) + ".class)";
+        }
+
+        if (type.getKind() == TypeKind.ARRAY) {
+            // runtime resolves generic arrays to their erased array class without subtypes
+            String rawName = this.rawName(type);
+            return ((rawName == null) || !this.accessibleComponent(type, pkg)) ? null : ("type(" + rawName + ".class)");
+        }
+
+        if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+
+        DeclaredType declared = (DeclaredType) type;
+        TypeElement element = (TypeElement) declared.asElement();
+        if (!this.accessible(element, pkg)) {
+            return null;
+        }
+
+        StringBuilder expression = new StringBuilder("type(").append(this.rawName(type)).append(".class");
+        for (TypeMirror argument : declared.getTypeArguments()) {
+
+            String argumentExpression;
+            if (argument.getKind() == TypeKind.WILDCARD) {
+                // same as the runtime: first upper bound, Object for unbounded and ? super
+                TypeMirror bound = ((WildcardType) argument).getExtendsBound();
+                argumentExpression = (bound == null) ? "type(java.lang.Object.class)" : this.typeExpression(bound, pkg);
+            } else {
+                argumentExpression = this.typeExpression(argument, pkg);
+            }
+
+            if (argumentExpression == null) {
+                return null;
+            }
+
+            expression.append(", ").append(argumentExpression);
+        }
+
+        return expression.append(")").toString();
+    }
+
+    private boolean accessibleComponent(TypeMirror type, String pkg) {
+        while (type.getKind() == TypeKind.ARRAY) {
+            type = ((ArrayType) type).getComponentType();
+        }
+        if (type.getKind().isPrimitive()) {
+            return true;
+        }
+        return (type.getKind() == TypeKind.DECLARED) && this.accessible((TypeElement) ((DeclaredType) type).asElement(), pkg);
+    }
+
+    private String rawName(TypeMirror type) {
+
+        if (type.getKind().isPrimitive()) {
+            return type.getKind().name().toLowerCase(Locale.ROOT);
+        }
+
+        if (type.getKind() == TypeKind.ARRAY) {
+            String component = this.rawName(((ArrayType) type).getComponentType());
+            return (component == null) ? null : (component + "[]");
+        }
+
+        if (type.getKind() == TypeKind.DECLARED) {
+            return ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+        }
+
+        return null;
+    }
+
+    private boolean accessible(TypeElement type, String pkg) {
+
+        for (Element current = type; current instanceof TypeElement; current = current.getEnclosingElement()) {
+
+            TypeElement currentType = (TypeElement) current;
+            if ((currentType.getNestingKind() == NestingKind.LOCAL) || (currentType.getNestingKind() == NestingKind.ANONYMOUS)) {
+                return false;
+            }
+
+            Set<Modifier> modifiers = currentType.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                return false;
+            }
+
+            if (!modifiers.contains(Modifier.PUBLIC) && !pkg.equals(this.elements.getPackageOf(currentType).getQualifiedName().toString())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean accessible(VariableElement field, String pkg) {
+
+        Set<Modifier> modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+
+        // protected members of other packages are not visible, generated class is not a subclass
+        return modifiers.contains(Modifier.PUBLIC) || pkg.equals(this.elements.getPackageOf(field).getQualifiedName().toString());
+    }
+
+    private AnnotationMirror findMirror(Element element, String annotation) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (annotation.equals(((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString())) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private AnnotationValue value(AnnotationMirror mirror, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : this.elements.getElementValuesWithDefaults(mirror).entrySet()) {
+            if (name.equals(entry.getKey().getSimpleName().toString())) {
+                return entry.getValue();
+            }
+        }
+        throw new UnsupportedConfigException("missing annotation value " + name);
+    }
+
+    private TypeElement classValue(AnnotationMirror mirror, String name) {
+        Object value = this.value(mirror, name).getValue();
+        if (!(value instanceof DeclaredType)) {
+            throw new UnsupportedConfigException("unresolved class in annotation value " + name);
+        }
+        return (TypeElement) ((DeclaredType) value).asElement();
+    }
+
+    private String stringArray(String[] values) {
+
+        if (values == null) {
+            return "null";
+        }
+
+        StringJoiner joiner = new StringJoiner(", ", "new java.lang.String[]{", "}");
+        for (String value : values) {
+            joiner.add(this.elements.getConstantExpression(value));
+        }
+
+        return joiner.toString();
+    }
+
+    private static final class UnsupportedConfigException extends RuntimeException {
+        UnsupportedConfigException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package eu.okaeri.configs.apt;
+
+import eu.okaeri.configs.OkaeriConfig;
+import eu.okaeri.configs.annotation.*;
+import eu.okaeri.configs.configurer.InMemoryConfigurer;
+import eu.okaeri.configs.schema.ConfigDeclaration;
+import eu.okaeri.configs.schema.FieldDeclaration;
+import eu.okaeri.configs.schema.GeneratedDeclaration;
+import eu.okaeri.configs.schema.GenericsDeclaration;
+import eu.okaeri.configs.serdes.DeserializationData;
+import eu.okaeri.configs.serdes.ObjectSerializer;
+import eu.okaeri.configs.serdes.SerializationData;
+import lombok.NonNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for OkaeriConfigProcessor - test configs below are processed during test compilation.
+ */
+class OkaeriConfigProcessorTest {
+
+    // === Test Configs ===
+
+    @Header("Generated header")
+    public static class GeneratedConfig extends OkaeriConfig {
+
+        @Comment("Server name")
+        String name = "default";
+
+        @Comments({@Comment("First"), @Comment({"Second", "Third"})})
+        int port = 25565;
+
+        @CustomKey("tag-list")
+        List<String> tags = new ArrayList<>(Arrays.asList("a", "b"));
+
+        Map<String, List<Integer>> nested = new LinkedHashMap<>();
+
+        List<? extends Number> numbers = new ArrayList<>();
+
+        @Variable("APT_TEST_VARIABLE")
+        String variable = "var";
+
+        @Serdes(serializer = UpperSerializer.class)
+        Wrapped wrapped = new Wrapped("value");
+
+        private String hidden = "hidden";
+
+        final String constant = "constant";
+
+        @Exclude
+        String excluded = "excluded";
+
+        transient String ignored = "ignored";
+
+        static String shared = "shared";
+    }
+
+    @Names(strategy = NameStrategy.HYPHEN_CASE, modifier = NameModifier.TO_LOWER_CASE)
+    public static class NamedConfig extends OkaeriConfig {
+        String myFieldName = "value";
+        @CustomKey("custom")
+        String otherField = "other";
+    }
+
+    public static class BaseConfig extends OkaeriConfig {
+        String baseField = "base";
+        String overridden = "base-overridden";
+    }
+
+    @Include(BaseConfig.class)
+    public static class ChildConfig extends BaseConfig {
+        @CustomKey("overridden")
+        String childOverridden = "child-overridden";
+        String childField = "child";
+    }
+
+    public static class GenericConfig<T extends CharSequence> extends OkaeriConfig {
+        T value;
+        List<T> values = new ArrayList<>();
+    }
+
+    public static class Wrapped {
+        final String value;
+
+        Wrapped(String value) {
+            this.value = value;
+        }
+    }
+
+    public static class UpperSerializer implements ObjectSerializer<Wrapped> {
+
+        @Override
+        public boolean supports(@NonNull Class<?> type) {
+            return Wrapped.class.isAssignableFrom(type);
+        }
+
+        @Override
+        public void serialize(@NonNull Wrapped object, @NonNull SerializationData data, @NonNull GenericsDeclaration generics) {
+            data.setValue(object.value.toUpperCase(Locale.ROOT));
+        }
+
+        @Override
+        public Wrapped deserialize(@NonNull DeserializationData data, @NonNull GenericsDeclaration generics) {
+            return new Wrapped(data.getValue(String.class).toLowerCase(Locale.ROOT));
+        }
+    }
+
+    // === Tests ===
+
+    @Test
+    void testProcessor_ConfigClasses_GenerateDeclarations() throws Exception {
+        // Given: config classes compiled with the processor
+        Class<?>[] configs = {GeneratedConfig.class, NamedConfig.class, BaseConfig.class, ChildConfig.class, GenericConfig.class};
+
+        for (Class<?> config : configs) {
+            // When: loading generated declaration class
+            Class<?> generated = Class.forName(config.getName().replace('$', '_') + GeneratedDeclaration.SUFFIX);
+
+            // Then: it extends GeneratedDeclaration
+            assertThat(GeneratedDeclaration.class).isAssignableFrom(generated);
+        }
+    }
+
+    @Test
+    void testProcessor_NonConfigClasses_GenerateNothing() {
+        // Given: non-config classes
+        String[] names = {Wrapped.class.getName(), UpperSerializer.class.getName()};
+
+        for (String name : names) {
+            // When/Then: no declaration class exists
+            String generated = name.replace('$', '_') + GeneratedDeclaration.SUFFIX;
+            assertThat(this.getClass().getClassLoader().getResource(generated.replace('.', '/') + ".class")).isNull();
+        }
+    }
+
+    @Test
+    void testDeclaration_GeneratedConfig_MatchesReflection() {
+        // Given: declaration built from generated code
+        ConfigDeclaration declaration = ConfigDeclaration.of(GeneratedConfig.class);
+
+        // Then: keys, order and header match the reflective rules
+        assertThat(declaration.getFieldNames()).containsExactly(
+            "name", "port", "tag-list", "nested", "numbers", "variable", "wrapped", "hidden", "constant");
+        assertThat(declaration.getHeader()).containsExactly("Generated header");
+        assertThat(declaration.isReal()).isTrue();
+        assertThat(declaration.getType()).isEqualTo(GeneratedConfig.class);
+        this.assertMatchesReflection(declaration);
+    }
+
+    @Test
+    void testDeclaration_Comments_ResolvedAtCompileTime() {
+        // Given
+        ConfigDeclaration declaration = ConfigDeclaration.of(GeneratedConfig.class);
+
+        // Then
+        assertThat(declaration.getField("name").get().getComment()).containsExactly("Server name");
+        assertThat(declaration.getField("port").get().getComment()).containsExactly("First", "Second", "Third");
+        assertThat(declaration.getField("nested").get().getComment()).isNull();
+    }
+
+    @Test
+    void testDeclaration_Types_ResolvedAtCompileTime() {
+        // Given
+        ConfigDeclaration declaration = ConfigDeclaration.of(GeneratedConfig.class);
+
+        // Then
+        assertThat(declaration.getGenericsOrNull("port")).isEqualTo(GenericsDeclaration.of(int.class));
+        assertThat(declaration.getGenericsOrNull("tag-list")).isEqualTo(GenericsDeclaration.of(List.class, Collections.singletonList(String.class)));
+        assertThat(declaration.getGenericsOrNull("numbers")).isEqualTo(GenericsDeclaration.of(List.class, Collections.singletonList(Number.class)));
+        assertThat(declaration.getGenericsOrNull("nested").getSubtypeAtOrThrow(1))
+            .isEqualTo(GenericsDeclaration.of(List.class, Collections.singletonList(Integer.class)));
+    }
+
+    @Test
+    void testDeclaration_NamesAndIncludes_MatchReflection() {
+        // Given
+        ConfigDeclaration named = ConfigDeclaration.of(NamedConfig.class);
+        ConfigDeclaration child = ConfigDeclaration.of(ChildConfig.class);
+
+        // Then
+        assertThat(named.getFieldNames()).containsExactly("my-field-name", "custom");
+        assertThat(named.getNameStrategy().strategy()).isEqualTo(NameStrategy.HYPHEN_CASE);
+        assertThat(child.getFieldNames()).containsExactly("overridden", "childField", "baseField");
+        assertThat(child.getField("overridden").get().getField().getDeclaringClass()).isEqualTo(ChildConfig.class);
+        this.assertMatchesReflection(named);
+        this.assertMatchesReflection(child);
+    }
+
+    @Test
+    void testDeclaration_TypeVariables_FallBackToReflection() {
+        // Given
+        ConfigDeclaration declaration = ConfigDeclaration.of(GenericConfig.class);
+
+        // Then: bounds are resolved like the reflective path does
+        assertThat(declaration.getGenericsOrNull("value")).isEqualTo(GenericsDeclaration.of(CharSequence.class));
+        assertThat(declaration.getGenericsOrNull("values")).isEqualTo(GenericsDeclaration.of(List.class, Collections.singletonList(CharSequence.class)));
+    }
+
+    @Test
+    void testAccessor_AccessibleFields_UseGeneratedAccessor() {
+        // Given
+        ConfigDeclaration declaration = ConfigDeclaration.of(GeneratedConfig.class);
+
+        // Then: direct access for visible fields, reflective handles otherwise
+        assertThat(declaration.getField("name").get().getAccessor()).isInstanceOf(GeneratedDeclaration.Accessor.class);
+        assertThat(declaration.getField("port").get().getAccessor()).isInstanceOf(GeneratedDeclaration.Accessor.class);
+        assertThat(declaration.getField("hidden").get().getAccessor()).isNotInstanceOf(GeneratedDeclaration.Accessor.class);
+        assertThat(declaration.getField("constant").get().getAccessor()).isNotInstanceOf(GeneratedDeclaration.Accessor.class);
+    }
+
+    @Test
+    void testAccessor_PrimitiveField_ReadsAndWritesWithoutBoxing() {
+        // Given
+        GeneratedConfig config = new GeneratedConfig();
+        FieldDeclaration port = ConfigDeclaration.of(GeneratedConfig.class).getField("port").get();
+
+        // When
+        port.getAccessor().setInt(config, 8080);
+
+        // Then
+        assertThat(port.getAccessor().getInt(config)).isEqualTo(8080);
+        assertThat(config.port).isEqualTo(8080);
+    }
+
+    @Test
+    void testLoad_GeneratedDeclaration_RoundTripsValues() {
+        // Given
+        GeneratedConfig source = new GeneratedConfig();
+        source.withConfigurer(new InMemoryConfigurer());
+        source.name = "changed";
+        source.port = 1;
+        source.tags = new ArrayList<>(Collections.singletonList("c"));
+        source.wrapped = new Wrapped("abc");
+
+        // When
+        Map<String, Object> data = source.asMap(new InMemoryConfigurer(), true);
+        GeneratedConfig target = new GeneratedConfig();
+        target.withConfigurer(new InMemoryConfigurer());
+        target.load(data);
+
+        // Then
+        assertThat(data.get("wrapped")).isEqualTo("ABC");
+        assertThat(target.name).isEqualTo("changed");
+        assertThat(target.port).isEqualTo(1);
+        assertThat(target.tags).containsExactly("c");
+        assertThat(target.wrapped.value).isEqualTo("abc");
+    }
+
+    private void assertMatchesReflection(ConfigDeclaration declaration) {
+        for (FieldDeclaration field : declaration.getFields()) {
+            FieldDeclaration reflective = FieldDeclaration.of(declaration, field.getField(), null);
+            assertThat(reflective).isNotNull();
+            assertThat(field.getName()).isEqualTo(reflective.getName());
+            assertThat(field.getComment()).isEqualTo(reflective.getComment());
+            assertThat(field.getType()).isEqualTo(reflective.getType());
+            assertThat(field.getVariable()).isEqualTo(reflective.getVariable());
+            assertThat(field.isFinalField()).isEqualTo(reflective.isFinalField());
+            assertThat((field.getCustomSerializer() == null) ? null : field.getCustomSerializer().getClass())
+                .isEqualTo((reflective.getCustomSerializer() == null) ? null : reflective.getCustomSerializer().getClass());
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package eu.okaeri.configs.benchmark;
+
+import eu.okaeri.configs.ConfigManager;
+import eu.okaeri.configs.configurer.Configurer;
+import eu.okaeri.configs.configurer.InMemoryConfigurer;
+import eu.okaeri.configs.test.MegaConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rough load/save throughput comparison on MegaConfig.
+ * <p>
+ * Uses {@link InMemoryConfigurer} so only the config engine is measured, not the format backend.
+ * Not a replacement for a proper harness, but enough to compare engine options relative to each other.
+ * <p>
+ * Run with: {@code mvn test -pl core-test -Dtest=MegaConfigBenchmarkTest -Dokaeri.benchmark=true}
+ */
+@EnabledIfSystemProperty(named = "okaeri.benchmark", matches = "true")
+class MegaConfigBenchmarkTest {
+
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 5_000;
+
+    @Test
+    void benchmarkCompiledCodec() {
+        double regular = this.measure("regular", () -> this.create(false));
+        double compiled = this.measure("compiled", () -> this.create(true));
+        System.out.printf("[MegaConfig] compiled codec speedup: %.2fx%n", regular / compiled);
+        assertThat(compiled).isPositive();
+    }
+
+    private MegaConfig create(boolean compiledCodec) {
+        return ConfigManager.create(MegaConfig.class, it -> it.configure(opt -> {
+            opt.configurer(new InMemoryConfigurer());
+            opt.compiledCodec(compiledCodec);
+        }));
+    }
+
+    private double measure(String name, Supplier<MegaConfig> factory) {
+
+        MegaConfig source = factory.get();
+        source.populateNestedMegaConfig();
+        Map<String, Object> data = source.asMap(source.getConfigurer(), true);
+
+        MegaConfig target = factory.get();
+        Configurer configurer = target.getConfigurer();
+        for (int i = 0; i < WARMUP; i++) {
+            target.load(data);
+            target.saveToBytes();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            target.load(data);
+            target.saveToBytes();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        double perOperation = elapsed / (double) ITERATIONS / 1_000.0;
+        System.out.printf("[MegaConfig] %-10s load+save: %8.2f us/op (%s)%n", name, perOperation, configurer.getClass().getSimpleName());
+        return perOperation;
+    }
+}
@@ -0,0 +1,114 @@
+package eu.okaeri.configs.benchmark;
+
+import eu.okaeri.configs.ConfigManager;
+import eu.okaeri.configs.OkaeriConfig;
+import eu.okaeri.configs.configurer.Configurer;
+import eu.okaeri.configs.configurer.InMemoryConfigurer;
+import eu.okaeri.configs.schema.GenericsDeclaration;
+import eu.okaeri.configs.serdes.DeserializationData;
+import eu.okaeri.configs.serdes.ObjectSerializer;
+import eu.okaeri.configs.serdes.SerializationData;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rough allocation comparison for serializer-heavy configs.
+ * <p>
+ * Conservative simplification takes over the serializer output without copying it, while
+ * non-conservative simplification has to simplify every value again, so the difference
+ * shows the allocations saved per serialized object.
+ * <p>
+ * Run with: {@code mvn test -pl core-test -Dtest=SerializationAllocationBenchmarkTest -Dokaeri.benchmark=true}
+ */
+@EnabledIfSystemProperty(named = "okaeri.benchmark", matches = "true")
+class SerializationAllocationBenchmarkTest {
+
+    private static final int POINTS = 1_000;
+    private static final int WARMUP = 500;
+    private static final int ITERATIONS = 2_000;
+
+    @Data
+    @AllArgsConstructor
+    public static class Point {
+        private String world;
+        private double x;
+        private double y;
+        private double z;
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = false)
+    public static class PointsConfig extends OkaeriConfig {
+        private List<Point> points = new ArrayList<>();
+    }
+
+    public static class PointSerializer implements ObjectSerializer<Point> {
+
+        @Override
+        public boolean supports(@NonNull Class<?> type) {
+            return Point.class.isAssignableFrom(type);
+        }
+
+        @Override
+        public void serialize(@NonNull Point object, @NonNull SerializationData data, @NonNull GenericsDeclaration generics) {
+            data.set("world", object.getWorld());
+            data.set("x", object.getX());
+            data.set("y", object.getY());
+            data.set("z", object.getZ());
+        }
+
+        @Override
+        public Point deserialize(@NonNull DeserializationData data, @NonNull GenericsDeclaration generics) {
+            return new Point(data.get("world", String.class), data.get("x", Double.class), data.get("y", Double.class), data.get("z", Double.class));
+        }
+    }
+
+    @Test
+    void benchmarkSerializerOutputOwnership() {
+
+        PointsConfig config = ConfigManager.create(PointsConfig.class, it -> it.configure(opt -> {
+            opt.configurer(new InMemoryConfigurer());
+            opt.serdes(new PointSerializer());
+        }));
+        for (int i = 0; i < POINTS; i++) {
+            config.getPoints().add(new Point("world", i, i * 2, i * 3));
+        }
+
+        double owned = this.measure("owned", config, true);
+        double resimplified = this.measure("resimplified", config, false);
+        System.out.printf("[Points] allocation saved by taking over serializer output: %.2fx%n", resimplified / owned);
+        assertThat(owned).isPositive();
+    }
+
+    private double measure(String name, PointsConfig config, boolean conservative) {
+
+        Configurer configurer = config.getConfigurer();
+        for (int i = 0; i < WARMUP; i++) {
+            config.asMap(configurer, conservative);
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        Map<String, Object> last = null;
+        for (int i = 0; i < ITERATIONS; i++) {
+            last = config.asMap(configurer, conservative);
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        double perObject = allocated / (double) ITERATIONS / POINTS;
+        System.out.printf("[Points] %-12s %8.1f bytes/object (%d keys)%n", name, perObject, last.size());
+        return perObject;
+    }
+}
@@ -0,0 +1,145 @@
+package eu.okaeri.configs.configurer;
+
+import eu.okaeri.configs.schema.GenericsDeclaration;
+import eu.okaeri.configs.serdes.SerdesContext;
+import eu.okaeri.configs.yaml.snakeyaml.YamlSnakeYamlConfigurer;
+import lombok.NonNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for CollectionFactory usage in Configurer#resolveType.
+ * <p>
+ * Scenarios tested:
+ * - Enum sets and enum-keyed maps keep insertion order by default
+ * - With enum containers enabled they resolve to EnumSet/EnumMap, unless the source contains null
+ * - Other interface types keep insertion-ordered implementations
+ * - Custom factories can replace and complete containers
+ */
+class CollectionFactoryTest {
+
+    private Configurer configurer;
+    private SerdesContext context;
+
+    enum Mode {
+        FAST, SLOW
+    }
+
+    @BeforeEach
+    void setUp() {
+        this.configurer = new YamlSnakeYamlConfigurer();
+        this.context = SerdesContext.of(this.configurer);
+    }
+
+    @Test
+    void testResolveType_EnumSet_KeepsInsertionOrder() {
+        // Given
+        GenericsDeclaration target = GenericsDeclaration.of(Set.class, Collections.singletonList(Mode.class));
+
+        // When
+        Set<Mode> result = this.configurer.resolveType(Arrays.asList("SLOW", "FAST"), null, Set.class, target, this.context);
+
+        // Then
+        assertThat(result).isInstanceOf(LinkedHashSet.class).containsExactly(Mode.SLOW, Mode.FAST);
+    }
+
+    @Test
+    void testResolveType_EnumKeyMap_KeepsInsertionOrder() {
+        // Given
+        GenericsDeclaration target = GenericsDeclaration.of(Map.class, Arrays.asList(Mode.class, Integer.class));
+        Map<String, String> source = new LinkedHashMap<>();
+        source.put("SLOW", "2");
+        source.put("FAST", "1");
+
+        // When
+        Map<Mode, Integer> result = this.configurer.resolveType(source, null, Map.class, target, this.context);
+
+        // Then
+        assertThat(result).isInstanceOf(LinkedHashMap.class);
+        assertThat(result.keySet()).containsExactly(Mode.SLOW, Mode.FAST);
+    }
+
+    @Test
+    void testResolveType_EnumContainers_EnumSet_UsesEnumSet() {
+        // Given
+        this.configurer.setCollectionFactory(StandardCollectionFactory.ENUM_CONTAINERS);
+        GenericsDeclaration target = GenericsDeclaration.of(Set.class, Collections.singletonList(Mode.class));
+
+        // When
+        Set<Mode> result = this.configurer.resolveType(Arrays.asList("SLOW", "FAST"), null, Set.class, target, this.context);
+
+        // Then
+        assertThat(result).isInstanceOf(EnumSet.class).containsExactly(Mode.FAST, Mode.SLOW);
+    }
+
+    @Test
+    void testResolveType_EnumContainers_EnumKeyMap_UsesEnumMap() {
+        // Given
+        this.configurer.setCollectionFactory(StandardCollectionFactory.ENUM_CONTAINERS);
+        GenericsDeclaration target = GenericsDeclaration.of(Map.class, Arrays.asList(Mode.class, Integer.class));
+        Map<String, String> source = new LinkedHashMap<>();
+        source.put("SLOW", "2");
+        source.put("FAST", "1");
+
+        // When
+        Map<Mode, Integer> result = this.configurer.resolveType(source, null, Map.class, target, this.context);
+
+        // Then
+        assertThat(result).isInstanceOf(EnumMap.class);
+        assertThat(result.keySet()).containsExactly(Mode.FAST, Mode.SLOW);
+        assertThat(result.values()).containsExactly(1, 2);
+    }
+
+    @Test
+    void testResolveType_EnumContainers_SourceWithNull_KeepsInsertionOrderedSet() {
+        // Given
+        this.configurer.setCollectionFactory(StandardCollectionFactory.ENUM_CONTAINERS);
+        GenericsDeclaration target = GenericsDeclaration.of(Set.class, Collections.singletonList(Mode.class));
+
+        // When
+        Set<Mode> result = this.configurer.resolveType(Arrays.asList("SLOW", null), null, Set.class, target, this.context);
+
+        // Then
+        assertThat(result).isInstanceOf(LinkedHashSet.class).containsExactly(Mode.SLOW, null);
+    }
+
+    @Test
+    void testResolveType_StringSet_KeepsInsertionOrder() {
+        // Given
+        GenericsDeclaration target = GenericsDeclaration.of(Set.class, Collections.singletonList(String.class));
+
+        // When
+        Set<String> result = this.configurer.resolveType(Arrays.asList("b", "a", "c"), null, Set.class, target, this.context);
+
+        // Then
+        assertThat(result).isInstanceOf(LinkedHashSet.class).containsExactly("b", "a", "c");
+    }
+
+    @Test
+    void testResolveType_CustomFactory_CompletesContainer() {
+        // Given
+        this.configurer.setCollectionFactory(new UnmodifiableListFactory());
+        GenericsDeclaration target = GenericsDeclaration.of(List.class, Collections.singletonList(Integer.class));
+
+        // When
+        List<Integer> result = this.configurer.resolveType(Arrays.asList("1", "2"), null, List.class, target, this.context);
+
+        // Then
+        assertThat(result).containsExactly(1, 2);
+        assertThatThrownBy(() -> result.add(null)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    static class UnmodifiableListFactory extends StandardCollectionFactory {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object complete(@NonNull Object container, @NonNull GenericsDeclaration declaration) {
+            return (container instanceof List) ? Collections.unmodifiableList((List<Object>) container) : container;
+        }
+    }
+}
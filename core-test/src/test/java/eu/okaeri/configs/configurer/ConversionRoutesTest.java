@@ -0,0 +1,144 @@
+package eu.okaeri.configs.configurer;
+
+import eu.okaeri.configs.schema.GenericsDeclaration;
+import eu.okaeri.configs.schema.GenericsPair;
+import eu.okaeri.configs.serdes.ObjectTransformer;
+import eu.okaeri.configs.serdes.SerdesContext;
+import eu.okaeri.configs.serdes.SerdesRegistry;
+import eu.okaeri.configs.yaml.snakeyaml.YamlSnakeYamlConfigurer;
+import lombok.NonNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the conversion route cache of Configurer#resolveType.
+ * <p>
+ * Scenarios tested:
+ * - Repeated conversions hit the cache and give the same results
+ * - Each branch (identity, transformer, two-step, enum, boxing) is replayed correctly
+ * - Registry changes invalidate cached routes
+ * - Collections bypass the cache
+ * - The cache is bounded
+ */
+class ConversionRoutesTest {
+
+    private Configurer configurer;
+    private SerdesContext context;
+
+    enum Mode {
+        FAST, SLOW
+    }
+
+    @BeforeEach
+    void setUp() {
+        this.configurer = new YamlSnakeYamlConfigurer();
+        this.context = SerdesContext.of(this.configurer);
+    }
+
+    @Test
+    void testResolveType_RepeatedConversion_HitsCache() {
+        // Given
+        ConversionRoutes routes = this.configurer.getConversionRoutes();
+
+        // When
+        Integer first = this.configurer.resolveType("42", null, Integer.class, null, this.context);
+        long missesAfterFirst = routes.getMisses();
+        Integer second = this.configurer.resolveType("43", null, Integer.class, null, this.context);
+
+        // Then
+        assertThat(first).isEqualTo(42);
+        assertThat(second).isEqualTo(43);
+        assertThat(routes.getHits()).isEqualTo(1);
+        assertThat(routes.getMisses()).isEqualTo(missesAfterFirst);
+    }
+
+    @Test
+    void testResolveType_AllBranches_SameResultFromCache() {
+        for (int i = 0; i < 2; i++) {
+            // identity
+            Object object = this.configurer.resolveType("value", null, Object.class, null, this.context);
+            assertThat(object).isEqualTo("value");
+            // boxing
+            assertThat(this.configurer.resolveType(5, null, int.class, null, this.context)).isEqualTo(5);
+            // enum
+            assertThat(this.configurer.resolveType("fast", null, Mode.class, null, this.context)).isEqualTo(Mode.FAST);
+            assertThat(this.configurer.resolveType(Mode.SLOW, null, String.class, null, this.context)).isEqualTo("SLOW");
+            // primitive through string
+            assertThat(this.configurer.resolveType(7, null, Long.class, null, this.context)).isEqualTo(7L);
+        }
+
+        assertThat(this.configurer.getConversionRoutes().getHits()).isGreaterThanOrEqualTo(5);
+    }
+
+    @Test
+    void testResolveType_CachedEnumRoute_StillReportsMismatch() {
+        // Given
+        this.configurer.resolveType("FAST", null, Mode.class, null, this.context);
+
+        // When/Then
+        assertThatThrownBy(() -> this.configurer.resolveType("MEDIUM", null, Mode.class, null, this.context))
+            .hasMessageContaining("Cannot resolve");
+    }
+
+    @Test
+    void testResolveType_RegistryChange_InvalidatesRoutes() {
+        // Given
+        assertThat(this.configurer.resolveType("  text  ", null, String.class, null, this.context)).isEqualTo("  text  ");
+        assertThat(this.configurer.getConversionRoutes().size()).isPositive();
+
+        // When
+        this.configurer.register(registry -> registry.register(new TrimmingTransformer()));
+
+        // Then
+        assertThat(this.configurer.resolveType("  text  ", null, String.class, null, this.context)).isEqualTo("text");
+    }
+
+    @Test
+    void testResolveType_Collection_BypassesCache() {
+        // Given
+        List<String> source = Arrays.asList("1", "2");
+
+        // When
+        this.configurer.resolveType(source, null, List.class, null, this.context);
+        this.configurer.resolveType(source, null, List.class, null, this.context);
+
+        // Then
+        assertThat(this.configurer.getConversionRoutes().getHits()).isZero();
+        assertThat(this.configurer.getConversionRoutes().getMisses()).isZero();
+    }
+
+    @Test
+    void testConversionRoutes_ExceedingBound_ClearsEntries() {
+        // Given
+        ConversionRoutes routes = new ConversionRoutes(2);
+        SerdesRegistry registry = this.configurer.getRegistry();
+        ConversionRoutes.Route identity = ConversionRoutes.Route.of(ConversionRoutes.Kind.IDENTITY);
+
+        // When
+        routes.put(registry, String.class, GenericsDeclaration.of(Integer.class), identity);
+        routes.put(registry, String.class, GenericsDeclaration.of(Long.class), identity);
+        routes.put(registry, String.class, GenericsDeclaration.of(Short.class), identity);
+
+        // Then
+        assertThat(routes.size()).isEqualTo(1);
+    }
+
+    public static class TrimmingTransformer extends ObjectTransformer<String, String> {
+
+        @Override
+        public GenericsPair<String, String> getPair() {
+            return this.genericsPair(String.class, String.class);
+        }
+
+        @Override
+        public String transform(@NonNull String data, @NonNull SerdesContext serdesContext) {
+            return data.trim();
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package eu.okaeri.configs.lifecycle;
+
+import eu.okaeri.configs.ConfigManager;
+import eu.okaeri.configs.OkaeriConfig;
+import eu.okaeri.configs.annotation.ReadOnly;
+import eu.okaeri.configs.exception.OkaeriException;
+import eu.okaeri.configs.json.simple.JsonSimpleConfigurer;
+import eu.okaeri.configs.schema.GenericsPair;
+import eu.okaeri.configs.serdes.ObjectTransformer;
+import eu.okaeri.configs.serdes.SerdesContext;
+import eu.okaeri.configs.test.MegaConfig;
+import eu.okaeri.configs.yaml.snakeyaml.YamlSnakeYamlConfigurer;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for compiled per-class load/save plans (opt-in via OkaeriConfigOptions#compiledCodec).
+ * <p>
+ * Scenarios tested:
+ * - Output identical to the regular path
+ * - Round-trip of all MegaConfig features
+ * - ReadOnly fields still save their starting value
+ * - Registry customizations of scalars are respected
+ * - Primitive fields are converted and written without the regular path
+ * - Primitive fields round-trip through save and load
+ * - Configurers overriding simplify keep working
+ */
+class ConfigCompiledCodecTest {
+
+    @Data
+    @EqualsAndHashCode(callSuper = false)
+    public static class ScalarConfig extends OkaeriConfig {
+        private String name = "  padded  ";
+        private int count = 5;
+        private Integer boxed = 7;
+        @ReadOnly
+        private String readOnly = "original";
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = false)
+    public static class CollectionConfig extends OkaeriConfig {
+        private List<String> names = Arrays.asList("a", "b");
+        private Set<Integer> numbers = new LinkedHashSet<>(Arrays.asList(1, 2, 3));
+        private List<Long> longs = Arrays.asList(1L, 2L);
+        private Map<String, List<Integer>> groups = Collections.singletonMap("first", Arrays.asList(4, 5));
+        private List<Map<String, Boolean>> flags = Collections.singletonList(Collections.singletonMap("enabled", true));
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = false)
+    public static class PrimitiveConfig extends OkaeriConfig {
+        private boolean enabled = false;
+        private short level = 1;
+        private long total = 2L;
+        private float ratio = 0.5f;
+        private double price = 1.25d;
+        private char symbol = 'a';
+    }
+
+    public static class DoublingTransformer extends ObjectTransformer<Integer, Long> {
+
+        @Override
+        public GenericsPair<Integer, Long> getPair() {
+            return this.genericsPair(Integer.class, Long.class);
+        }
+
+        @Override
+        public Long transform(@NonNull Integer data, @NonNull SerdesContext serdesContext) {
+            return data * 2L;
+        }
+    }
+
+    public static class TrimmingTransformer extends ObjectTransformer<String, String> {
+
+        @Override
+        public GenericsPair<String, String> getPair() {
+            return this.genericsPair(String.class, String.class);
+        }
+
+        @Override
+        public String transform(@NonNull String data, @NonNull SerdesContext serdesContext) {
+            return data.trim();
+        }
+    }
+
+    @Test
+    void testSave_MegaConfig_SameOutputAsRegularPath() {
+        // Given
+        MegaConfig regular = ConfigManager.create(MegaConfig.class, it -> it.withConfigurer(new YamlSnakeYamlConfigurer()));
+        regular.populateNestedMegaConfig();
+        MegaConfig compiled = ConfigManager.create(MegaConfig.class, it -> it.configure(opt -> {
+            opt.configurer(new YamlSnakeYamlConfigurer());
+            opt.compiledCodec(true);
+        }));
+        compiled.populateNestedMegaConfig();
+
+        // When
+        String regularYaml = regular.saveToString();
+        String compiledYaml = compiled.saveToString();
+
+        // Then
+        assertThat(compiledYaml).isEqualTo(regularYaml);
+    }
+
+    @Test
+    void testLoad_MegaConfig_RoundTrip() {
+        // Given
+        MegaConfig original = ConfigManager.create(MegaConfig.class, it -> it.withConfigurer(new YamlSnakeYamlConfigurer()));
+        original.populateNestedMegaConfig();
+        String yaml = original.saveToString();
+
+        // When
+        MegaConfig loaded = ConfigManager.create(MegaConfig.class, it -> it.configure(opt -> {
+            opt.configurer(new YamlSnakeYamlConfigurer());
+            opt.compiledCodec(true);
+        }));
+        loaded.load(yaml);
+
+        // Then
+        assertThat(loaded).isEqualTo(original);
+        assertThat(loaded.saveToString()).isEqualTo(yaml);
+    }
+
+    @Test
+    void testSave_ReadOnlyField_KeepsStartingValue() {
+        // Given
+        ScalarConfig config = ConfigManager.create(ScalarConfig.class, it -> it.configure(opt -> {
+            opt.configurer(new YamlSnakeYamlConfigurer());
+            opt.compiledCodec(true);
+        }));
+        config.setReadOnly("changed");
+
+        // When
+        String yaml = config.saveToString();
+
+        // Then
+        assertThat(yaml).contains("readOnly: original");
+        assertThat(yaml).doesNotContain("changed");
+    }
+
+    @Test
+    void testLoad_CustomStringTransformer_IsRespected() {
+        // Given: registry with a non-identity String -> String transformer
+        ScalarConfig config = ConfigManager.create(ScalarConfig.class, it -> it.configure(opt -> {
+            opt.configurer(new YamlSnakeYamlConfigurer());
+            opt.serdes(new TrimmingTransformer());
+            opt.compiledCodec(true);
+        }));
+
+        // When
+        config.load("name: '  loaded  '\ncount: 3\nboxed: 4\n");
+
+        // Then
+        assertThat(config.getName()).isEqualTo("loaded");
+        assertThat(config.getCount()).isEqualTo(3);
+        assertThat(config.getBoxed()).isEqualTo(4);
+    }
+
+    @Test
+    void testSave_ConfigurerOverridingSimplify_UsesRegularPath() {
+        // Given: configurer with custom simplify
+        ScalarConfig regular = ConfigManager.create(ScalarConfig.class, it -> it.withConfigurer(new JsonSimpleConfigurer()));
+        ScalarConfig compiled = ConfigManager.create(ScalarConfig.class, it -> it.configure(opt -> {
+            opt.configurer(new JsonSimpleConfigurer());
+            opt.compiledCodec(true);
+        }));
+
+        // When/Then
+        assertThat(compiled.saveToString()).isEqualTo(regular.saveToString());
+    }
+
+    @Test
+    void testSave_CollectionsAndMaps_SameOutputAsRegularPath() {
+        // Given
+        CollectionConfig regular = ConfigManager.create(CollectionConfig.class, it -> it.withConfigurer(new YamlSnakeYamlConfigurer()));
+        CollectionConfig compiled = ConfigManager.create(CollectionConfig.class, it -> it.configure(opt -> {
+            opt.configurer(new YamlSnakeYamlConfigurer());
+            opt.compiledCodec(true);
+        }));
+
+        // When/Then
+        assertThat(compiled.saveToString()).isEqualTo(regular.saveToString());
+    }
+
+    @Test
+    void testLoad_CollectionsAndMaps_RoundTripWithFallbackForMismatchedElements() {
+        // Given
+        CollectionConfig config = ConfigManager.create(CollectionConfig.class, it -> it.configure(opt -> {
+            opt.configurer(new YamlSnakeYamlConfigurer());
+            opt.compiledCodec(true);
+        }));
+
+        // When: yaml integers are loaded as Integer, so List<Long> falls back to the regular path
+        config.load("names: [x, y]\nnumbers: [7, 8]\nlongs: [10, 20]\ngroups:\n  g: [1]\nflags:\n- debug: false\n");
+
+        // Then
+        assertThat(config.getNames()).containsExactly("x", "y");
+        assertThat(config.getNumbers()).isInstanceOf(LinkedHashSet.class).containsExactly(7, 8);
+        assertThat(config.getLongs()).containsExactly(10L, 20L);
+        assertThat(config.getGroups()).containsOnlyKeys("g");
+        assertThat(config.getGroups().get("g")).containsExactly(1);
+        assertThat(config.getFlags()).hasSize(1);
+        assertThat(config.getFlags().get(0)).containsEntry("debug", false);
+    }
+
+    @Test
+    void testLoad_PrimitiveFields_ConvertedLikeRegularPath() {
+        // Given
+        String yaml = "enabled: true\nlevel: 12\ntotal: 3000000000\nratio: 2\nprice: 4\nsymbol: b\n";
+        PrimitiveConfig regular = ConfigManager.create(PrimitiveConfig.class, it -> it.withConfigurer(new YamlSnakeYamlConfigurer()));
+        PrimitiveConfig compiled = ConfigManager.create(PrimitiveConfig.class, it -> it.configure(opt -> {
+            opt.configurer(new YamlSnakeYamlConfigurer());
+            opt.compiledCodec(true);
+        }));
+
+        // When
+        regular.load(yaml);
+        compiled.load(yaml);
+
+        // Then
+        assertThat(compiled).isEqualTo(regular);
+        assertThat(compiled.getTotal()).isEqualTo(3000000000L);
+        assertThat(compiled.getRatio()).isEqualTo(2f);
+        assertThat(compiled.saveToString()).isEqualTo(regular.saveToString());
+    }
+
+    @Test
+    void testSaveAndLoad_PrimitiveFields_RoundTrip() {
+        // Given
+        PrimitiveConfig source = ConfigManager.create(PrimitiveConfig.class, it -> it.configure(opt -> {
+            opt.configurer(new YamlSnakeYamlConfigurer());
+            opt.compiledCodec(true);
+        }));
+        source.setEnabled(true);
+        source.setLevel((short) -7);
+        source.setTotal(Long.MAX_VALUE);
+        source.setRatio(0.25f);
+        source.setPrice(-3.5d);
+        source.setSymbol('z');
+        PrimitiveConfig regular = ConfigManager.create(PrimitiveConfig.class, it -> it.withConfigurer(new YamlSnakeYamlConfigurer()));
+        PrimitiveConfig loaded = ConfigManager.create(PrimitiveConfig.class, it -> it.configure(opt -> {
+            opt.configurer(new YamlSnakeYamlConfigurer());
+            opt.compiledCodec(true);
+        }));
+
+        // When
+        String saved = source.saveToString();
+        regular.load(saved);
+        loaded.load(saved);
+
+        // Then
+        assertThat(loaded).isEqualTo(source);
+        assertThat(saved).isEqualTo(regular.saveToString());
+        assertThat(loaded.saveToString()).isEqualTo(saved);
+    }
+
+    @Test
+    void testLoad_PrimitiveFieldOutOfRange_FailsLikeRegularPath() {
+        // Given
+        PrimitiveConfig config = ConfigManager.create(PrimitiveConfig.class, it -> it.configure(opt -> {
+            opt.configurer(new YamlSnakeYamlConfigurer());
+            opt.compiledCodec(true);
+        }));
+
+        // When/Then
+        assertThatThrownBy(() -> config.load("level: 100000\n")).isInstanceOf(OkaeriException.class);
+    }
+
+    @Test
+    void testLoad_PrimitiveFieldWithCustomNumericTransformer_IsRespected() {
+        // Given: registry with a custom Integer -> Long transformer
+        PrimitiveConfig config = ConfigManager.create(PrimitiveConfig.class, it -> it.configure(opt -> {
+            opt.configurer(new YamlSnakeYamlConfigurer());
+            opt.serdes(new DoublingTransformer());
+            opt.compiledCodec(true);
+        }));
+
+        // When
+        config.load("total: 21\n");
+
+        // Then
+        assertThat(config.getTotal()).isEqualTo(42L);
+    }
+}
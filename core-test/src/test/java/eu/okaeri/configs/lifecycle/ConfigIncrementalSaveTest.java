@@ -0,0 +1,183 @@
+package eu.okaeri.configs.lifecycle;
+
+import eu.okaeri.configs.ConfigManager;
+import eu.okaeri.configs.OkaeriConfig;
+import eu.okaeri.configs.configurer.InMemoryConfigurer;
+import eu.okaeri.configs.schema.GenericsDeclaration;
+import eu.okaeri.configs.serdes.DeserializationData;
+import eu.okaeri.configs.serdes.ObjectSerializer;
+import eu.okaeri.configs.serdes.SerializationData;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for incremental saves (opt-in via OkaeriConfigOptions#incrementalSave).
+ * <p>
+ * Scenarios tested:
+ * - Unchanged fields reuse the previous result
+ * - Replaced values are simplified again
+ * - Values updated with set() or changed in place and marked dirty are saved
+ * - Subconfigs are always simplified
+ * - Registering serdes invalidates the cache
+ */
+class ConfigIncrementalSaveTest {
+
+    private CountingSerializer serializer;
+    private ItemsConfig config;
+
+    @Data
+    @AllArgsConstructor
+    public static class Item {
+        private String name;
+        private int amount;
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = false)
+    public static class Settings extends OkaeriConfig {
+        private String mode = "default";
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = false)
+    public static class ItemsConfig extends OkaeriConfig {
+        private boolean enabled = true;
+        private String title = "shop";
+        private List<Item> items = new ArrayList<>(List.of(new Item("stone", 1), new Item("dirt", 2)));
+        private Settings settings = new Settings();
+    }
+
+    public static class CountingSerializer implements ObjectSerializer<Item> {
+
+        private int serialized;
+
+        @Override
+        public boolean supports(@NonNull Class<?> type) {
+            return Item.class.isAssignableFrom(type);
+        }
+
+        @Override
+        public void serialize(@NonNull Item object, @NonNull SerializationData data, @NonNull GenericsDeclaration generics) {
+            this.serialized++;
+            data.set("name", object.getName());
+            data.set("amount", object.getAmount());
+        }
+
+        @Override
+        public Item deserialize(@NonNull DeserializationData data, @NonNull GenericsDeclaration generics) {
+            return new Item(data.get("name", String.class), data.get("amount", Integer.class));
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        this.serializer = new CountingSerializer();
+        this.config = ConfigManager.create(ItemsConfig.class, it -> it.configure(opt -> {
+            opt.configurer(new InMemoryConfigurer());
+            opt.serdes(this.serializer);
+            opt.incrementalSave(true);
+        }));
+    }
+
+    @Test
+    void testSave_UnchangedFields_ReusePreviousResult() {
+        // Given
+        Map<String, Object> first = this.save();
+        this.config.setEnabled(false);
+        this.config.setTitle("market");
+
+        // When
+        Map<String, Object> second = this.save();
+
+        // Then
+        assertThat(this.serializer.serialized).isEqualTo(2);
+        assertThat(second.get("items")).isSameAs(first.get("items"));
+        assertThat(second.get("enabled")).isEqualTo(false);
+        assertThat(second.get("title")).isEqualTo("market");
+    }
+
+    @Test
+    void testSave_ReplacedValue_SimplifiedAgain() {
+        // Given
+        this.save();
+        this.config.setItems(new ArrayList<>(List.of(new Item("sand", 3))));
+
+        // When
+        Map<String, Object> saved = this.save();
+
+        // Then
+        assertThat(this.serializer.serialized).isEqualTo(3);
+        assertThat((List<?>) saved.get("items")).hasSize(1);
+    }
+
+    @Test
+    void testSave_ChangedInPlaceAndMarkedDirty_SimplifiedAgain() {
+        // Given
+        this.save();
+        this.config.getItems().add(new Item("sand", 3));
+
+        // When
+        this.config.markDirty("items");
+        Map<String, Object> saved = this.save();
+
+        // Then
+        assertThat((List<?>) saved.get("items")).hasSize(3);
+    }
+
+    @Test
+    void testSave_UpdatedWithSet_SimplifiedAgain() {
+        // Given
+        this.save();
+
+        // When
+        this.config.set("items", List.of(Map.of("name", "stone", "amount", 64)));
+        Map<String, Object> saved = this.save();
+
+        // Then
+        assertThat(this.config.getItems()).containsExactly(new Item("stone", 64));
+        assertThat(saved.get("items").toString()).contains("amount=64");
+    }
+
+    @Test
+    void testSave_SubconfigChangedInPlace_AlwaysSimplified() {
+        // Given
+        this.save();
+        this.config.getSettings().setMode("custom");
+
+        // When
+        Map<String, Object> saved = this.save();
+
+        // Then
+        assertThat(saved.get("settings").toString()).contains("custom");
+    }
+
+    @Test
+    void testSave_RegistryChanged_CacheInvalidated() {
+        // Given
+        this.save();
+
+        // When
+        CountingSerializer other = new CountingSerializer();
+        this.config.getConfigurer().getRegistry().register(other);
+        this.save();
+
+        // Then
+        assertThat(this.serializer.serialized + other.serialized).isEqualTo(4);
+    }
+
+    private Map<String, Object> save() {
+        this.config.save(new ByteArrayOutputStream());
+        return this.config.getInternalState();
+    }
+}
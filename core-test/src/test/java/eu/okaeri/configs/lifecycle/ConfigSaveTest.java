@@ -8,12 +8,18 @@ import eu.okaeri.configs.yaml.snakeyaml.YamlSnakeYamlConfigurer;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -30,6 +36,10 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
  * - File overwriting
  * - Orphan removal (enabled/disabled)
  * - Data loss prevention (file preserved on serialization errors)
+ * - Atomic saves (temp file replaces target, no leftovers, original preserved on errors,
+ *   symbolic links followed, permissions kept)
+ * - Save buffer reuse
+ * - Skipping unchanged saves (after save and load, rewrite on change or external modification)
  * - Error cases (no configurer, no bind file)
  */
 class ConfigSaveTest {
@@ -381,4 +391,213 @@ class ConfigSaveTest {
         // Assert - file should not have been created
         assertThat(tempFile).doesNotExist();
     }
+
+    @Test
+    void testSave_Atomic_WritesContentWithoutLeftovers() throws Exception {
+        // Arrange
+        Path tempFile = this.tempDir.resolve("atomic/config.yml");
+        PrimitivesTestConfig config = ConfigManager.create(PrimitivesTestConfig.class);
+        config.withConfigurer(new YamlSnakeYamlConfigurer());
+        config.configure(opt -> opt.atomicSave(true).syncOnSave(true));
+        config.setIntValue(321);
+
+        // Act
+        config.save(tempFile);
+        config.setIntValue(654);
+        config.save(tempFile);
+
+        // Assert
+        String content = Files.readString(tempFile);
+        assertThat(content).contains("intValue: 654");
+        assertThat(content).isEqualTo(config.saveToString());
+        try (Stream<Path> files = Files.list(tempFile.getParent())) {
+            assertThat(files).containsExactly(tempFile);
+        }
+    }
+
+    @Test
+    void testSave_AtomicSerializationError_PreservesOriginalFileContent() throws Exception {
+        // Arrange
+        Path tempFile = this.tempDir.resolve("atomic-preserve.yml");
+        String originalContent = "original: content\n";
+        Files.writeString(tempFile, originalContent);
+
+        ConfigWithUnserializableField config = ConfigManager.create(ConfigWithUnserializableField.class);
+        config.withConfigurer(new YamlSnakeYamlConfigurer());
+        config.configure(opt -> opt.atomicSave(true));
+
+        // Act & Assert
+        assertThatThrownBy(() -> config.save(tempFile.toFile()))
+            .isInstanceOf(OkaeriException.class)
+            .hasMessageContaining("problematicField");
+
+        // Assert - original content is kept and the temporary file is removed
+        assertThat(Files.readString(tempFile)).isEqualTo(originalContent);
+        try (Stream<Path> files = Files.list(this.tempDir)) {
+            assertThat(files).containsExactly(tempFile);
+        }
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    void testSave_AtomicSymbolicLink_ReplacesLinkTarget() throws Exception {
+        // Arrange
+        Path realFile = this.tempDir.resolve("real/config.yml");
+        Files.createDirectories(realFile.getParent());
+        Files.writeString(realFile, "intValue: 1\n");
+        Path link = Files.createSymbolicLink(this.tempDir.resolve("link.yml"), realFile);
+
+        PrimitivesTestConfig config = ConfigManager.create(PrimitivesTestConfig.class);
+        config.withConfigurer(new YamlSnakeYamlConfigurer());
+        config.configure(opt -> opt.atomicSave(true));
+        config.setIntValue(777);
+
+        // Act
+        config.save(link);
+
+        // Assert
+        assertThat(Files.isSymbolicLink(link)).isTrue();
+        assertThat(Files.readString(realFile)).contains("intValue: 777");
+        try (Stream<Path> files = Files.list(realFile.getParent())) {
+            assertThat(files).containsExactly(realFile);
+        }
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    void testSave_Atomic_KeepsFilePermissions() throws Exception {
+        // Arrange
+        Path tempFile = this.tempDir.resolve("secret.yml");
+        Files.writeString(tempFile, "intValue: 1\n");
+        Files.setPosixFilePermissions(tempFile, PosixFilePermissions.fromString("rw-------"));
+
+        PrimitivesTestConfig config = ConfigManager.create(PrimitivesTestConfig.class);
+        config.withConfigurer(new YamlSnakeYamlConfigurer());
+        config.configure(opt -> opt.atomicSave(true));
+
+        // Act
+        config.save(tempFile);
+
+        // Assert
+        assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(tempFile))).isEqualTo("rw-------");
+        assertThat(Files.getOwner(tempFile)).isEqualTo(Files.getOwner(this.tempDir));
+    }
+
+    @Test
+    void testSave_AtomicSkipUnchanged_SecondSaveNotWritten() throws Exception {
+        // Arrange
+        Path tempFile = this.tempDir.resolve("atomic-skip.yml");
+        PrimitivesTestConfig config = ConfigManager.create(PrimitivesTestConfig.class);
+        config.withConfigurer(new YamlSnakeYamlConfigurer());
+        config.configure(opt -> opt.atomicSave(true).skipUnchangedSave(true));
+        config.save(tempFile);
+        FileTime modified = Files.getLastModifiedTime(tempFile);
+        Object fileKey = Files.readAttributes(tempFile, BasicFileAttributes.class).fileKey();
+
+        // Act
+        config.save(tempFile);
+
+        // Assert - file is neither rewritten nor replaced, the temporary file is removed
+        assertThat(config.isLastSaveWritten()).isFalse();
+        assertThat(Files.getLastModifiedTime(tempFile)).isEqualTo(modified);
+        assertThat(Files.readAttributes(tempFile, BasicFileAttributes.class).fileKey()).isEqualTo(fileKey);
+        try (Stream<Path> files = Files.list(this.tempDir)) {
+            assertThat(files).containsExactly(tempFile);
+        }
+    }
+
+    @Test
+    void testSave_WithBufferReuse_WritesCurrentContent() throws Exception {
+        // Arrange
+        Path tempFile = this.tempDir.resolve("reuse.yml");
+        PrimitivesTestConfig config = ConfigManager.create(PrimitivesTestConfig.class);
+        config.withConfigurer(new YamlSnakeYamlConfigurer());
+        config.configure(opt -> opt.saveBufferReuse(true));
+
+        // Act
+        config.setIntValue(111111);
+        config.save(tempFile);
+        config.setIntValue(2);
+        config.save(tempFile);
+
+        // Assert - shorter output fully replaces the previous one
+        String content = Files.readString(tempFile);
+        assertThat(content).isEqualTo(config.saveToString());
+        assertThat(content).contains("intValue: 2\n");
+        assertThat(content).doesNotContain("111111");
+    }
+
+    @Test
+    void testSave_SkipUnchanged_SecondSaveNotWritten() throws Exception {
+        // Arrange
+        Path tempFile = this.tempDir.resolve("skip.yml");
+        PrimitivesTestConfig config = ConfigManager.create(PrimitivesTestConfig.class);
+        config.withConfigurer(new YamlSnakeYamlConfigurer());
+        config.configure(opt -> opt.skipUnchangedSave(true));
+        config.save(tempFile);
+        FileTime modified = Files.getLastModifiedTime(tempFile);
+
+        // Act
+        config.save(tempFile);
+
+        // Assert
+        assertThat(config.isLastSaveWritten()).isFalse();
+        assertThat(Files.getLastModifiedTime(tempFile)).isEqualTo(modified);
+    }
+
+    @Test
+    void testSave_SkipUnchanged_ChangedValueWritten() throws Exception {
+        // Arrange
+        Path tempFile = this.tempDir.resolve("skip-changed.yml");
+        PrimitivesTestConfig config = ConfigManager.create(PrimitivesTestConfig.class);
+        config.withConfigurer(new YamlSnakeYamlConfigurer());
+        config.configure(opt -> opt.skipUnchangedSave(true).atomicSave(true));
+        config.save(tempFile);
+
+        // Act
+        config.setIntValue(4242);
+        config.save(tempFile);
+
+        // Assert
+        assertThat(config.isLastSaveWritten()).isTrue();
+        assertThat(Files.readString(tempFile)).contains("intValue: 4242");
+    }
+
+    @Test
+    void testLoad_SkipUnchanged_UpdateNotWritten() throws Exception {
+        // Arrange
+        Path tempFile = this.tempDir.resolve("skip-load.yml");
+        PrimitivesTestConfig source = ConfigManager.create(PrimitivesTestConfig.class);
+        source.withConfigurer(new YamlSnakeYamlConfigurer());
+        source.save(tempFile);
+
+        PrimitivesTestConfig config = ConfigManager.create(PrimitivesTestConfig.class);
+        config.withConfigurer(new YamlSnakeYamlConfigurer())
+            .withBindFile(tempFile);
+        config.configure(opt -> opt.skipUnchangedSave(true));
+
+        // Act
+        config.load(true);
+
+        // Assert
+        assertThat(config.isLastSaveWritten()).isFalse();
+    }
+
+    @Test
+    void testSave_SkipUnchanged_RemovedFileWritten() throws Exception {
+        // Arrange
+        Path tempFile = this.tempDir.resolve("skip-removed.yml");
+        PrimitivesTestConfig config = ConfigManager.create(PrimitivesTestConfig.class);
+        config.withConfigurer(new YamlSnakeYamlConfigurer());
+        config.configure(opt -> opt.skipUnchangedSave(true));
+        config.save(tempFile);
+        Files.delete(tempFile);
+
+        // Act
+        config.save(tempFile);
+
+        // Assert
+        assertThat(config.isLastSaveWritten()).isTrue();
+        assertThat(tempFile).exists();
+    }
 }
@@ -2,6 +2,7 @@ package eu.okaeri.configs.manager;
 
 import eu.okaeri.configs.ConfigManager;
 import eu.okaeri.configs.OkaeriConfig;
+import eu.okaeri.configs.exception.OkaeriException;
 import eu.okaeri.configs.test.configs.PrimitivesTestConfig;
 import eu.okaeri.configs.yaml.snakeyaml.YamlSnakeYamlConfigurer;
 import lombok.Data;
@@ -35,6 +36,26 @@ class ConfigManagerTest {
             .isInstanceOf(NullPointerException.class);
     }
 
+    @Test
+    void testCreateUnsafe_WithoutDefaultConstructor_SkipsConstructor() {
+        // When: Creating config without default constructor twice (second call uses cached instantiator)
+        NoDefaultConstructorConfig first = ConfigManager.createUnsafe(NoDefaultConstructorConfig.class);
+        NoDefaultConstructorConfig second = ConfigManager.createUnsafe(NoDefaultConstructorConfig.class);
+
+        // Then: Instances are distinct and no constructor or initializer was run
+        assertThat(first).isNotSameAs(second);
+        assertThat(first.getName()).isNull();
+        assertThat(second.getName()).isNull();
+    }
+
+    @Test
+    void testCreate_WithoutDefaultConstructor_ThrowsException() {
+        // When/Then: Regular creation requires default constructor
+        assertThatThrownBy(() -> ConfigManager.create(NoDefaultConstructorConfig.class))
+            .isInstanceOf(OkaeriException.class)
+            .hasMessageContaining("make sure default constructor is available");
+    }
+
     @Test
     void testTransformCopy_CopiesConfigToSameType() {
         // Given: Source config with values
@@ -250,6 +271,16 @@ class ConfigManagerTest {
         private Integer numberAsString = 0;
     }
 
+    @Data
+    @EqualsAndHashCode(callSuper = false)
+    public static class NoDefaultConstructorConfig extends OkaeriConfig {
+        private String name = "default";
+
+        public NoDefaultConstructorConfig(String name) {
+            this.name = name;
+        }
+    }
+
     /**
      * Generic document wrapper (similar to okaeri-persistence Document base class).
      * Used to load data before knowing the specific type.
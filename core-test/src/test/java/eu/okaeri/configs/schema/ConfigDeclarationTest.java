@@ -7,9 +7,12 @@ import lombok.EqualsAndHashCode;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Tests for ConfigDeclaration - focuses on declaration API and field collection.
@@ -120,6 +123,29 @@ class ConfigDeclarationTest {
         assertThat(declaration1.getNameStrategy()).isEqualTo(declaration2.getNameStrategy());
     }
 
+    @Test
+    void testCaching_MultipleInstances_ShareFieldTemplatesButBindOwnObject() {
+        // Given
+        SimpleConfig config1 = new SimpleConfig();
+        SimpleConfig config2 = new SimpleConfig();
+        config2.setField1("other");
+
+        // When
+        ConfigDeclaration declaration1 = ConfigDeclaration.of(config1);
+        ConfigDeclaration declaration2 = ConfigDeclaration.of(config2);
+        FieldDeclaration field1 = declaration1.getField("field1").get();
+        FieldDeclaration field2 = declaration2.getField("field1").get();
+
+        // Then - class-level shape is reused, instance state is not
+        assertThat(field1).isNotSameAs(field2);
+        assertThat(field1.getType()).isSameAs(field2.getType());
+        assertThat(field1.getField()).isSameAs(field2.getField());
+        assertThat(field1.getObject()).isSameAs(config1);
+        assertThat(field2.getObject()).isSameAs(config2);
+        assertThat(field1.getValue()).isEqualTo("value1");
+        assertThat(field2.getValue()).isEqualTo("other");
+    }
+
     @Test
     void testHeader_WithHeaderAnnotation_Captured() {
         // When
@@ -304,4 +330,78 @@ class ConfigDeclarationTest {
         // Then
         assertThat(field1.getStartingValue()).isNull();
     }
+
+    @Test
+    void testFieldMap_BoundDeclaration_ReadOnlyViewsNotKept() {
+        // Given
+        ConfigDeclaration declaration = ConfigDeclaration.of(new SimpleConfig());
+
+        // When
+        Map<String, FieldDeclaration> fieldMap = declaration.getFieldMap();
+
+        // Then
+        assertThat(declaration.getFieldMap()).isNotSameAs(fieldMap);
+        assertThat(declaration.getField("field1").get()).isNotSameAs(fieldMap.get("field1"));
+        assertThatThrownBy(() -> fieldMap.remove("field1")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> declaration.setFieldMap(new LinkedHashMap<>())).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void testTemplateFields_SharedBetweenInstances_ValuesAccessedBySlot() {
+        // Given
+        SimpleConfig config1 = new SimpleConfig();
+        SimpleConfig config2 = new SimpleConfig();
+        config2.setField1("other");
+        ConfigDeclaration declaration1 = ConfigDeclaration.of(config1);
+        ConfigDeclaration declaration2 = ConfigDeclaration.of(config2);
+        FieldDeclaration field1 = declaration1.getTemplateField("field1").get();
+
+        // When
+        declaration1.updateValue(field1, "updated");
+        declaration2.setStartingValue(field1, "hidden");
+        declaration2.setVariableHide(field1, true);
+
+        // Then
+        assertThat(declaration2.getTemplateFields()).containsExactlyElementsOf(declaration1.getTemplateFields());
+        assertThat(declaration2.getTemplateField("field1").get()).isSameAs(field1);
+        assertThat(config1.getField1()).isEqualTo("updated");
+        assertThat(declaration1.getValue(field1)).isEqualTo("updated");
+        assertThat(declaration2.getValue(field1)).isEqualTo("hidden");
+        assertThat(declaration2.getField("field1").get().isVariableHide()).isTrue();
+        assertThat(declaration1.isVariableHide(field1)).isFalse();
+    }
+
+    @Test
+    void testFieldDeclaration_InstanceStateSharedBetweenLookups() {
+        // Given
+        SimpleConfig config = new SimpleConfig();
+        ConfigDeclaration declaration = ConfigDeclaration.of(config);
+
+        // When - state is written through one lookup
+        declaration.getField("field1").get().setStartingValue("changed");
+        declaration.getField("field2").get().setVariableHide(true);
+
+        // Then - and visible through the others
+        assertThat(declaration.getField("field1").get().getStartingValue()).isEqualTo("changed");
+        assertThat(declaration.getFieldMap().get("field2").isVariableHide()).isTrue();
+        assertThat(declaration.getFields())
+            .extracting(FieldDeclaration::isVariableHide)
+            .containsExactly(false, true);
+        assertThat(ConfigDeclaration.of(config).getField("field2").get().isVariableHide()).isFalse();
+    }
+
+    @Test
+    void testFieldDeclaration_SetObject_RebindsAllFields() {
+        // Given
+        SimpleConfig config = new SimpleConfig();
+        config.setField1("bound");
+        ConfigDeclaration declaration = ConfigDeclaration.of(SimpleConfig.class);
+
+        // When
+        declaration.getField("field2").get().setObject(config);
+
+        // Then
+        assertThat(declaration.getField("field1").get().getObject()).isSameAs(config);
+        assertThat(declaration.getField("field1").get().getValue()).isEqualTo("bound");
+    }
 }
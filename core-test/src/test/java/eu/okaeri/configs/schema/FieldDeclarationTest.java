@@ -12,6 +12,7 @@ import java.lang.reflect.Field;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Tests for FieldDeclaration - focuses on the FieldDeclaration API itself.
@@ -114,6 +115,60 @@ class FieldDeclarationTest {
         assertThat(config.getStringField()).isEqualTo("updated");
     }
 
+    @Test
+    void testAccessor_PrimitiveField_ReadsAndWritesWithoutBoxing() {
+        // Given
+        SimpleConfig config = new SimpleConfig();
+        ConfigDeclaration configDecl = ConfigDeclaration.of(config);
+        FieldAccessor accessor = configDecl.getField("intField").get().getAccessor();
+
+        // When
+        accessor.setInt(config, 1337);
+
+        // Then
+        assertThat(accessor.getInt(config)).isEqualTo(1337);
+        assertThat(accessor.get(config)).isEqualTo(1337);
+        assertThat(config.getIntField()).isEqualTo(1337);
+    }
+
+    @Test
+    void testAccessor_SharedBetweenInstances() {
+        // Given
+        ConfigDeclaration configDecl1 = ConfigDeclaration.of(new SimpleConfig());
+        ConfigDeclaration configDecl2 = ConfigDeclaration.of(new SimpleConfig());
+
+        // When
+        FieldAccessor accessor1 = configDecl1.getField("stringField").get().getAccessor();
+        FieldAccessor accessor2 = configDecl2.getField("stringField").get().getAccessor();
+
+        // Then
+        assertThat(accessor1).isSameAs(accessor2);
+    }
+
+    @Test
+    void testUpdateValue_NullForPrimitive_ThrowsIllegalArgument() {
+        // Given
+        SimpleConfig config = new SimpleConfig();
+        FieldDeclaration fieldDecl = ConfigDeclaration.of(config).getField("intField").get();
+
+        // When/Then
+        assertThatThrownBy(() -> fieldDecl.updateValue(null))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(config.getIntField()).isEqualTo(42);
+    }
+
+    @Test
+    void testUpdateValue_WrongType_ThrowsIllegalArgument() {
+        // Given
+        SimpleConfig config = new SimpleConfig();
+        FieldDeclaration fieldDecl = ConfigDeclaration.of(config).getField("stringField").get();
+
+        // When/Then
+        assertThatThrownBy(() -> fieldDecl.updateValue(123))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(config.getStringField()).isEqualTo("default");
+    }
+
     @Test
     void testGetAnnotation_ExistingAnnotation_ReturnsOptional() {
         // Given
@@ -385,4 +385,67 @@ class GenericsDeclarationTest {
         // When/then
         assertThat(GenericsDeclaration.isUnboxedCompatibleWithBoxed(int.class, Long.class)).isFalse();
     }
+
+    // --- Interning and Equality ---
+
+    @Test
+    void testOf_SameClass_ReturnsInternedInstance() {
+        // When
+        GenericsDeclaration fromClass = GenericsDeclaration.of(String.class);
+        GenericsDeclaration fromObject = GenericsDeclaration.of("test");
+        GenericsDeclaration fromEmptySubtypes = GenericsDeclaration.of(String.class, List.of());
+
+        // Then
+        assertThat(fromObject).isSameAs(fromClass);
+        assertThat(fromEmptySubtypes).isSameAs(fromClass);
+    }
+
+    @Test
+    void testOf_FieldTypeWithoutGenerics_ReturnsInternedInstance() throws Exception {
+        // Given
+        Field field = GenericTypesConfig.class.getDeclaredField("stringField");
+
+        // When
+        GenericsDeclaration declaration = GenericsDeclaration.of(field.getGenericType());
+
+        // Then
+        assertThat(declaration).isSameAs(GenericsDeclaration.of(String.class));
+    }
+
+    @Test
+    void testEquals_StructurallyEqualDeclarations_AreEqualWithSameHash() throws Exception {
+        // Given
+        Field field = GenericTypesConfig.class.getDeclaredField("nestedGenericMap");
+        GenericsDeclaration fromField = GenericsDeclaration.of(field.getGenericType());
+        GenericsDeclaration manual = GenericsDeclaration.of(Map.class, List.of(String.class, GenericsDeclaration.of(List.class, List.of(Integer.class))));
+
+        // Then
+        assertThat(fromField).isEqualTo(manual);
+        assertThat(fromField.hashCode()).isEqualTo(manual.hashCode());
+        assertThat(fromField).isNotEqualTo(GenericsDeclaration.of(Map.class, List.of(String.class, Integer.class)));
+    }
+
+    @Test
+    void testGetSubtype_IsImmutable() {
+        // Given
+        GenericsDeclaration declaration = GenericsDeclaration.of(List.class, List.of(String.class));
+
+        // When/Then
+        assertThatThrownBy(() -> declaration.getSubtype().add(GenericsDeclaration.of(Integer.class)))
+            .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(GenericsDeclaration.of(String.class).getSubtype()).isEmpty();
+    }
+
+    @Test
+    void testGenericsPair_EqualDeclarations_AreEqualWithSameHash() {
+        // Given
+        GenericsPair<String, Integer> first = new GenericsPair<>(GenericsDeclaration.of(String.class), GenericsDeclaration.of(Integer.class));
+        GenericsPair<String, Integer> second = new GenericsPair<>(GenericsDeclaration.of("text"), GenericsDeclaration.of(42));
+
+        // Then
+        assertThat(first).isEqualTo(second);
+        assertThat(first.hashCode()).isEqualTo(second.hashCode());
+        assertThat(first.reverse()).isNotEqualTo(first);
+        assertThat(first.reverse().reverse()).isEqualTo(first);
+    }
 }
@@ -103,6 +103,17 @@ class ConfigSerializableTest {
         private MissingDeserializeMethod broken = new MissingDeserializeMethod();
     }
 
+    public static class InstanceDeserializeMethod implements ConfigSerializable {
+        @Override
+        public void serialize(SerializationData data, GenericsDeclaration generics) {
+            data.set("value", "test");
+        }
+
+        public InstanceDeserializeMethod deserialize(DeserializationData data, GenericsDeclaration generics) {
+            return new InstanceDeserializeMethod();
+        }
+    }
+
     // === CONFIGSERIALIZABLESERIALIZER INTEGRATION TESTS ===
 
     @Test
@@ -273,6 +284,17 @@ class ConfigSerializableTest {
             .hasStackTraceContaining("deserialize");
     }
 
+    @Test
+    void testConfigSerializable_NonStaticDeserializeMethod_ThrowsException() {
+        ConfigSerializableSerializer serializer = new ConfigSerializableSerializer();
+        YamlSnakeYamlConfigurer configurer = new YamlSnakeYamlConfigurer();
+        DeserializationData data = new DeserializationData(new LinkedHashMap<>(), configurer, SerdesContext.of(configurer));
+
+        assertThatThrownBy(() -> serializer.deserialize(data, GenericsDeclaration.of(InstanceDeserializeMethod.class)))
+            .hasMessageContaining("is not static")
+            .hasMessageContaining(InstanceDeserializeMethod.class.getSimpleName());
+    }
+
     // === SERIALIZER PRECEDENCE TESTS ===
 
     @Data
@@ -2,14 +2,27 @@ package eu.okaeri.configs.serdes;
 
 import eu.okaeri.configs.schema.GenericsDeclaration;
 import eu.okaeri.configs.schema.GenericsPair;
+import eu.okaeri.configs.serdes.serializable.ConfigSerializable;
 import eu.okaeri.configs.serdes.standard.StandardSerdes;
+import lombok.Data;
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.Field;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Tests for SerdesRegistry - registration and querying of serializers and transformers.
@@ -278,6 +291,50 @@ class SerdesRegistryTest {
         assertThat(canTransform).isFalse();
     }
 
+    @Test
+    void testGetTransformerRoute_DirectAndTwoStep() {
+        this.registry.register(new StandardSerdes());
+
+        // direct
+        List<ObjectTransformer> direct = this.registry.getTransformerRoute(GenericsDeclaration.of(String.class), GenericsDeclaration.of(Long.class));
+        assertThat(direct).containsExactly(this.registry.getTransformer(GenericsDeclaration.of(String.class), GenericsDeclaration.of(Long.class)));
+
+        // two step through intermediate type
+        ObjectTransformer stepTwo = new ObjectTransformer<String, Void>() {
+            @Override
+            public GenericsPair<String, Void> getPair() {
+                return this.genericsPair(String.class, Void.class);
+            }
+
+            @Override
+            public Void transform(@NonNull String data, @NonNull SerdesContext serdesContext) {
+                return null;
+            }
+        };
+        this.registry.register(stepTwo);
+
+        List<ObjectTransformer> twoStep = this.registry.getTransformerRoute(GenericsDeclaration.of(Integer.class), GenericsDeclaration.of(Void.class));
+        assertThat(twoStep).hasSize(2);
+        assertThat(twoStep.get(0).getPair().getTo()).isEqualTo(GenericsDeclaration.of(String.class));
+        assertThat(twoStep.get(1)).isSameAs(stepTwo);
+
+        // no route
+        assertThat(this.registry.getTransformerRoute(GenericsDeclaration.of(Void.class), GenericsDeclaration.of(Integer.class))).isEmpty();
+    }
+
+    @Test
+    void testGetTransformerRoute_MemoizedRouteInvalidatedOnRegistration() {
+        GenericsDeclaration from = GenericsDeclaration.of(String.class);
+        GenericsDeclaration to = GenericsDeclaration.of(Integer.class);
+        assertThat(this.registry.getTransformerRoute(from, to)).isEmpty();
+        assertThat(this.registry.getTransformersFrom(from)).isEmpty();
+
+        this.registry.register(new StandardSerdes());
+
+        assertThat(this.registry.getTransformerRoute(from, to)).hasSize(1);
+        assertThat(this.registry.getTransformersFrom(from)).isNotEmpty();
+    }
+
     // === SERIALIZER QUERY TESTS ===
     // Note: StandardSerdes only registers transformers, not serializers
     // Testing serializer registration with custom serializers instead
@@ -318,6 +375,32 @@ class SerdesRegistryTest {
         assertThat(serializer).isNull();
     }
 
+    @Test
+    void testGetSerializer_CachedResultInvalidatedOnRegistration() {
+        // Missing serializer is cached as missing
+        assertThat(this.registry.getSerializer(String.class)).isNull();
+
+        // Registering invalidates the cache
+        ObjectSerializer<String> first = new StringSerializer();
+        this.registry.register(first);
+        assertThat(this.registry.getSerializer(String.class)).isSameAs(first);
+        assertThat(this.registry.getSerializer(String.class)).isSameAs(first);
+
+        // Last registered still wins
+        ObjectSerializer<String> second = new StringSerializer();
+        this.registry.register(second);
+        assertThat(this.registry.getSerializer(String.class)).isSameAs(second);
+
+        // registerFirst has the lowest priority
+        this.registry.registerFirst(new StringSerializer());
+        assertThat(this.registry.getSerializer(String.class)).isSameAs(second);
+
+        // registerExclusive replaces all supporting serializers
+        ObjectSerializer<String> exclusive = new StringSerializer();
+        this.registry.registerExclusive(String.class, exclusive);
+        assertThat(this.registry.getSerializer(String.class)).isSameAs(exclusive);
+    }
+
     // === ALLSERDES TESTS ===
 
     @Test
@@ -337,4 +420,318 @@ class SerdesRegistryTest {
         assertThat(newRegistry.canTransform(GenericsDeclaration.of(String.class), GenericsDeclaration.of(Integer.class)))
             .isTrue();
     }
+
+    // === ATTACHMENT TESTS ===
+
+    @Test
+    void testGetAttachments_ResolvedOnceAndFrozen() throws Exception {
+        // Given
+        Field field = AnnotatedHolder.class.getDeclaredField("value");
+        AtomicInteger resolveCount = new AtomicInteger();
+        this.registry.register(new TestSpecResolver(resolveCount));
+
+        // When
+        SerdesContextAttachments first = this.registry.getAttachments(field);
+        SerdesContextAttachments second = this.registry.getAttachments(field);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(resolveCount).hasValue(1);
+        assertThat(first.get(TestSpecData.class)).isEqualTo(new TestSpecData("field"));
+        assertThat(first.isFrozen()).isTrue();
+        assertThatThrownBy(() -> first.put(TestSpecData.class, new TestSpecData("other")))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void testGetAttachments_FrozenViewsReadOnly() throws Exception {
+        // Given
+        Field field = AnnotatedHolder.class.getDeclaredField("value");
+        this.registry.register(new TestSpecResolver(new AtomicInteger()));
+        SerdesContextAttachments attachments = this.registry.getAttachments(field);
+
+        // When/Then
+        assertThatThrownBy(() -> attachments.keySet().remove(TestSpecData.class))
+            .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> attachments.values().clear())
+            .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> attachments.entrySet().iterator().next().setValue(new TestSpecData("other")))
+            .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(this.registry.getAttachments(field)).containsEntry(TestSpecData.class, new TestSpecData("field"));
+
+        // And - clones stay mutable
+        SerdesContextAttachments clone = attachments.clone();
+        clone.keySet().remove(TestSpecData.class);
+        assertThat(clone).isEmpty();
+        assertThat(attachments).hasSize(1);
+    }
+
+    @Test
+    void testGetAttachments_InvalidatedOnResolverRegistration() throws Exception {
+        // Given
+        Field field = AnnotatedHolder.class.getDeclaredField("value");
+        SerdesContextAttachments before = this.registry.getAttachments(field);
+
+        // When
+        this.registry.register(new TestSpecResolver(new AtomicInteger()));
+        SerdesContextAttachments after = this.registry.getAttachments(field);
+
+        // Then
+        assertThat(before).isEmpty();
+        assertThat(after).containsEntry(TestSpecData.class, new TestSpecData("field"));
+    }
+
+    // === LAYERING TESTS ===
+
+    @Test
+    void testFreeze_RegistrationRejected() {
+        // Given
+        this.registry.freeze();
+
+        // When/Then
+        assertThat(this.registry.isFrozen()).isTrue();
+        assertThatThrownBy(() -> this.registry.register(new StringSerializer()))
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> this.registry.register(new StandardSerdes()))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void testFreeze_CompiledLookupsMatchMutableRegistry() throws Exception {
+        // Given
+        this.registry.register(new StandardSerdes());
+        this.registry.register(new TestSerializableSerializer());
+        this.registry.register(new TestSpecResolver(new AtomicInteger()));
+        GenericsDeclaration integer = GenericsDeclaration.of(Integer.class);
+        GenericsDeclaration string = GenericsDeclaration.of(String.class);
+        ObjectTransformer transformer = this.registry.getTransformer(string, integer);
+        List<ObjectTransformer> route = this.registry.getTransformerRoute(integer, GenericsDeclaration.of(Long.class));
+
+        // When
+        this.registry.freeze();
+
+        // Then
+        assertThat(this.registry.getTransformer(string, integer)).isSameAs(transformer);
+        assertThat(this.registry.getTransformerRoute(integer, GenericsDeclaration.of(Long.class))).isEqualTo(route);
+        assertThat(this.registry.getSerializer(TestSerializable.class)).isInstanceOf(TestSerializableSerializer.class);
+        assertThat(this.registry.getSerializer(Object.class)).isNull();
+        assertThat(this.registry.getAnnotationResolver(TestSpec.class)).isInstanceOf(TestSpecResolver.class);
+        assertThat(this.registry.getAttachments(AnnotatedHolder.class.getDeclaredField("value")))
+            .containsEntry(TestSpecData.class, new TestSpecData("field"));
+    }
+
+    @Test
+    void testLayered_UnfrozenBase_Rejected() {
+        assertThatThrownBy(() -> new SerdesRegistry(this.registry))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testLayered_LookupsFallBackToSharedBase() {
+        // Given
+        SerdesRegistry base = StandardSerdes.sharedRegistry();
+        SerdesRegistry first = new SerdesRegistry(base);
+        SerdesRegistry second = new SerdesRegistry(base);
+        GenericsDeclaration string = GenericsDeclaration.of(String.class);
+        GenericsDeclaration integer = GenericsDeclaration.of(Integer.class);
+
+        // When/Then
+        assertThat(first.getTransformer(string, integer)).isSameAs(second.getTransformer(string, integer)).isNotNull();
+        assertThat(first.getSerializer(TestSerializable.class)).isSameAs(base.getSerializer(TestSerializable.class));
+        assertThat(first.getTransformerRoute(integer, GenericsDeclaration.of(Long.class))).hasSize(2);
+    }
+
+    @Test
+    void testLayered_OverlayWinsAndDoesNotLeakIntoBase() {
+        // Given
+        SerdesRegistry base = StandardSerdes.sharedRegistry();
+        SerdesRegistry overlay = new SerdesRegistry(base);
+        TestSerializableSerializer serializer = new TestSerializableSerializer();
+
+        // When
+        overlay.registerExclusive(TestSerializable.class, serializer);
+
+        // Then
+        assertThat(overlay.getSerializer(TestSerializable.class)).isSameAs(serializer);
+        assertThat(base.getSerializer(TestSerializable.class)).isNotSameAs(serializer).isNotNull();
+        assertThat(new SerdesRegistry(base).getSerializer(TestSerializable.class)).isNotSameAs(serializer);
+    }
+
+    @Test
+    void testLayered_AllSerdes_IncludesBase() {
+        // Given
+        SerdesRegistry overlay = new SerdesRegistry(StandardSerdes.sharedRegistry());
+        overlay.register(new StringSerializer());
+
+        // When
+        SerdesRegistry copy = new SerdesRegistry();
+        overlay.allSerdes().register(copy);
+
+        // Then
+        assertThat(copy.canTransform(GenericsDeclaration.of(String.class), GenericsDeclaration.of(Integer.class))).isTrue();
+        assertThat(copy.getSerializer(String.class)).isInstanceOf(StringSerializer.class);
+    }
+
+    @Test
+    void testLayered_AllSerdes_SameBase_CopiesOnlyOverlay() {
+        // Given
+        SerdesRegistry base = StandardSerdes.sharedRegistry();
+        SerdesRegistry overlay = new SerdesRegistry(base);
+        overlay.register(new StringSerializer());
+
+        // When
+        SerdesRegistry copy = new SerdesRegistry(base);
+        overlay.allSerdes().register(copy);
+
+        // Then - single registration, base components are still looked up in the base
+        assertThat(copy.getVersion()).isEqualTo(1);
+        assertThat(copy.getSerializer(String.class)).isInstanceOf(StringSerializer.class);
+        assertThat(copy.getSerializer(TestSerializable.class)).isSameAs(base.getSerializer(TestSerializable.class));
+        GenericsDeclaration string = GenericsDeclaration.of(String.class);
+        GenericsDeclaration integer = GenericsDeclaration.of(Integer.class);
+        assertThat(copy.getTransformer(string, integer)).isSameAs(base.getTransformer(string, integer));
+    }
+
+    @Test
+    void testLayered_AllSerdes_SameBaseDetached_KeepsExclusiveSerializer() {
+        // Given
+        SerdesRegistry base = StandardSerdes.sharedRegistry();
+        SerdesRegistry overlay = new SerdesRegistry(base);
+        TestSerializableSerializer serializer = new TestSerializableSerializer();
+        overlay.registerExclusive(TestSerializable.class, serializer);
+
+        // When
+        SerdesRegistry copy = new SerdesRegistry(base);
+        overlay.allSerdes().register(copy);
+
+        // Then
+        assertThat(copy.getSerializer(TestSerializable.class)).isSameAs(serializer);
+    }
+
+    @Test
+    void testRegisterLazy_RegistersPackOnFirstMatchingLookup() {
+        // Given
+        AtomicInteger registrations = new AtomicInteger();
+        this.registry.registerLazy(new TestDiscoverableSerdes(registrations));
+
+        // When
+        ObjectSerializer unrelated = this.registry.getSerializer(String.class);
+
+        // Then
+        assertThat(unrelated).isNull();
+        assertThat(registrations).hasValue(0);
+
+        // When
+        ObjectSerializer serializer = this.registry.getSerializer(TestSerializable.class);
+        this.registry.getSerializer(TestSerializable.class);
+
+        // Then
+        assertThat(serializer).isInstanceOf(TestSerializableSerializer.class);
+        assertThat(registrations).hasValue(1);
+    }
+
+    @Test
+    void testRegisterLazy_FreezeRegistersPendingPacks() {
+        // Given
+        AtomicInteger registrations = new AtomicInteger();
+        this.registry.registerLazy(new TestDiscoverableSerdes(registrations));
+
+        // When
+        this.registry.freeze();
+
+        // Then
+        assertThat(registrations).hasValue(1);
+        assertThat(this.registry.getSerializer(TestSerializable.class)).isInstanceOf(TestSerializableSerializer.class);
+    }
+
+    @RequiredArgsConstructor
+    static class TestDiscoverableSerdes implements DiscoverableSerdes {
+
+        private final AtomicInteger registrations;
+
+        @Override
+        public Set<String> getHandledTypes() {
+            return Collections.singleton(TestSerializable.class.getName());
+        }
+
+        @Override
+        public void register(@NonNull SerdesRegistry registry) {
+            this.registrations.incrementAndGet();
+            registry.register(new TestSerializableSerializer());
+        }
+    }
+
+    public static class TestSerializable implements ConfigSerializable {
+        @Override
+        public void serialize(@NonNull SerializationData data, @NonNull GenericsDeclaration generics) {
+        }
+    }
+
+    static class TestSerializableSerializer implements ObjectSerializer<TestSerializable> {
+
+        @Override
+        public boolean supports(@NonNull Class<?> type) {
+            return TestSerializable.class.isAssignableFrom(type);
+        }
+
+        @Override
+        public void serialize(@NonNull TestSerializable object, @NonNull SerializationData data, @NonNull GenericsDeclaration generics) {
+        }
+
+        @Override
+        public TestSerializable deserialize(@NonNull DeserializationData data, @NonNull GenericsDeclaration generics) {
+            return new TestSerializable();
+        }
+    }
+
+    static class StringSerializer implements ObjectSerializer<String> {
+
+        @Override
+        public boolean supports(@NonNull Class<?> type) {
+            return String.class.equals(type);
+        }
+
+        @Override
+        public void serialize(@NonNull String object, @NonNull SerializationData data, @NonNull GenericsDeclaration generics) {
+            data.setValue(object);
+        }
+
+        @Override
+        public String deserialize(@NonNull DeserializationData data, @NonNull GenericsDeclaration generics) {
+            return data.getValue(String.class);
+        }
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.FIELD)
+    @interface TestSpec {
+        String value();
+    }
+
+    @Data
+    static class TestSpecData implements SerdesContextAttachment {
+        private final String value;
+    }
+
+    static class AnnotatedHolder {
+        @TestSpec("field")
+        private String value;
+    }
+
+    @RequiredArgsConstructor
+    static class TestSpecResolver implements SerdesAnnotationResolver<TestSpec, TestSpecData> {
+
+        private final AtomicInteger resolveCount;
+
+        @Override
+        public Class<TestSpec> getAnnotationType() {
+            return TestSpec.class;
+        }
+
+        @Override
+        public Optional<TestSpecData> resolveAttachment(@NonNull Field field, @NonNull TestSpec annotation) {
+            this.resolveCount.incrementAndGet();
+            return Optional.of(new TestSpecData(annotation.value()));
+        }
+    }
 }
@@ -6,6 +6,7 @@ import eu.okaeri.configs.yaml.snakeyaml.YamlSnakeYamlConfigurer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -436,4 +437,101 @@ class SerializationDataTest {
     void testGetContext_ReturnsContext() {
         assertThat(this.data.getContext()).isSameAs(this.context);
     }
+
+    // === OWNERSHIP TESTS ===
+
+    @Test
+    void testIsSimplified_SimplifyingSettersAndLiterals_ReturnsTrue() {
+        this.data.set("name", "value");
+        this.data.setCollection("list", Arrays.asList(1, 2), Integer.class);
+        this.data.setRaw("raw", 5);
+        this.data.setRaw("null", null);
+
+        assertThat(this.data.isSimplified()).isTrue();
+    }
+
+    @Test
+    void testIsSimplified_RawObject_ReturnsFalseUntilCleared() {
+        this.data.setRaw("uuid", UUID.randomUUID());
+
+        assertThat(this.data.isSimplified()).isFalse();
+
+        this.data.clear();
+
+        assertThat(this.data.isSimplified()).isTrue();
+    }
+
+    @Test
+    void testIsSimplified_RawNonWrapperNumber_ReturnsFalse() {
+        this.data.setRaw("amount", new BigDecimal("1.50"));
+
+        assertThat(this.data.isSimplified()).isFalse();
+    }
+
+    @Test
+    void testRelease_HandsOverBackingMap() {
+        this.data.set("key", "value");
+
+        Map<String, Object> released = this.data.release();
+        released.put("other", "added");
+
+        assertThat(released).containsEntry("key", "value");
+        assertThat(this.data.asMap()).isEmpty();
+    }
+
+    @Test
+    void testSimplify_RawObjectInSerializerOutput_IsSimplifiedAgain() {
+        // Given
+        UUID uuid = UUID.randomUUID();
+        this.configurer.getRegistry().register(new ObjectSerializer<Optional<?>>() {
+            @Override
+            public boolean supports(Class<?> type) {
+                return Optional.class.isAssignableFrom(type);
+            }
+
+            @Override
+            public void serialize(Optional<?> object, SerializationData data, GenericsDeclaration generics) {
+                data.set("present", object.isPresent());
+                data.setRaw("value", object.orElse(null));
+            }
+
+            @Override
+            public Optional<?> deserialize(DeserializationData data, GenericsDeclaration generics) {
+                return Optional.empty();
+            }
+        });
+
+        // When
+        Object simplified = this.configurer.simplify(Optional.of(uuid), null, this.context, true);
+
+        // Then
+        assertThat(simplified).isEqualTo(Map.of("present", true, "value", uuid.toString()));
+    }
+
+    @Test
+    void testSimplify_RawBigDecimalInSerializerOutput_IsSimplifiedAgain() {
+        // Given
+        this.configurer.getRegistry().register(new ObjectSerializer<Optional<?>>() {
+            @Override
+            public boolean supports(Class<?> type) {
+                return Optional.class.isAssignableFrom(type);
+            }
+
+            @Override
+            public void serialize(Optional<?> object, SerializationData data, GenericsDeclaration generics) {
+                data.setRaw("amount", object.orElse(null));
+            }
+
+            @Override
+            public Optional<?> deserialize(DeserializationData data, GenericsDeclaration generics) {
+                return Optional.empty();
+            }
+        });
+
+        // When
+        Object simplified = this.configurer.simplify(Optional.of(new BigDecimal("1.50")), null, this.context, true);
+
+        // Then
+        assertThat(simplified).isEqualTo(Map.of("amount", "1.50"));
+    }
 }
@@ -367,6 +367,35 @@ class StandardSerdesTest {
             .isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    void testTransform_StringToInteger_ExoticInput_SameAsBigDecimal() {
+        ObjectTransformer<String, Integer> transformer = this.getTransformer(String.class, Integer.class);
+
+        assertThat(transformer.transform("+7", this.context)).isEqualTo(7);
+        assertThat(transformer.transform("007", this.context)).isEqualTo(7);
+        assertThat(transformer.transform("1.0", this.context)).isEqualTo(1);
+        assertThat(transformer.transform("1e2", this.context)).isEqualTo(100);
+        assertThatThrownBy(() -> transformer.transform("1.5", this.context))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> transformer.transform("-", this.context))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> transformer.transform("2147483648", this.context))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testResolveType_NumberToNumber_MatchesStringConversion() {
+        assertThat(this.configurer.resolveType(5, null, Long.class, null, this.context)).isEqualTo(5L);
+        assertThat(this.configurer.resolveType(5L, null, int.class, null, this.context)).isEqualTo(5);
+        assertThat(this.configurer.resolveType(3.0d, null, Integer.class, null, this.context)).isEqualTo(3);
+        assertThat(this.configurer.resolveType(0.1f, null, Double.class, null, this.context)).isEqualTo(0.1d);
+        assertThat(this.configurer.resolveType(2.5d, null, Float.class, null, this.context)).isEqualTo(2.5f);
+        assertThatThrownBy(() -> this.configurer.resolveType(3.5d, null, Integer.class, null, this.context))
+            .hasMessageContaining("Cannot transform");
+        assertThatThrownBy(() -> this.configurer.resolveType(300, null, Byte.class, null, this.context))
+            .hasMessageContaining("Cannot transform");
+    }
+
     @Test
     void testTransform_StringToDouble_InvalidFormat_ThrowsException() {
         ObjectTransformer<String, Double> transformer = this.getTransformer(String.class, Double.class);
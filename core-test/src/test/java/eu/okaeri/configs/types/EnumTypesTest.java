@@ -2,6 +2,7 @@ package eu.okaeri.configs.types;
 
 import eu.okaeri.configs.ConfigManager;
 import eu.okaeri.configs.test.configs.EnumsTestConfig;
+import eu.okaeri.configs.util.EnumTable;
 import eu.okaeri.configs.yaml.snakeyaml.YamlSnakeYamlConfigurer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -20,6 +21,7 @@ import static org.assertj.core.api.Assertions.entry;
  * - Simple enum serialization/deserialization
  * - Enum.valueOf() exact match
  * - Case-insensitive fallback
+ * - Lookup table precedence (exact first, then declaration order)
  * - List<Enum>, Set<Enum>
  * - Map with enum keys/values
  */
@@ -28,6 +30,16 @@ class EnumTypesTest {
     @TempDir
     Path tempDir;
 
+    enum MixedCaseEnum {
+        alpha, ALPHA, Beta,
+        GAMMA {
+            @Override
+            public String toString() {
+                return "gamma";
+            }
+        }
+    }
+
     @Test
     void testSingleEnum_SaveAndLoad_MaintainsValue() throws Exception {
         // Arrange
@@ -269,4 +281,19 @@ class EnumTypesTest {
         assertThat(loaded.getEnumKeyMap()).hasSize(2);
         assertThat(loaded.getEnumValueMap()).hasSize(2);
     }
+
+    @Test
+    void testEnumTable_Resolve_PrefersExactThenFirstCaseInsensitive() {
+        // Arrange
+        EnumTable<?> table = EnumTable.of(MixedCaseEnum.class);
+
+        // Act & Assert
+        assertThat(table.resolve("ALPHA")).isEqualTo(MixedCaseEnum.ALPHA);
+        assertThat(table.resolve("alpha")).isEqualTo(MixedCaseEnum.alpha);
+        assertThat(table.resolve("Alpha")).isEqualTo(MixedCaseEnum.alpha);
+        assertThat(table.resolve("BETA")).isEqualTo(MixedCaseEnum.Beta);
+        assertThat(table.resolve("gamma")).isEqualTo(MixedCaseEnum.GAMMA);
+        assertThat(table.resolve("delta")).isNull();
+        assertThat(EnumTable.of(MixedCaseEnum.class)).isSameAs(table);
+    }
 }
@@ -0,0 +1,633 @@
+package eu.okaeri.configs;
+
+import eu.okaeri.configs.annotation.ReadOnly;
+import eu.okaeri.configs.annotation.TargetType;
+import eu.okaeri.configs.configurer.Configurer;
+import eu.okaeri.configs.exception.OkaeriException;
+import eu.okaeri.configs.schema.ConfigDeclaration;
+import eu.okaeri.configs.schema.FieldAccessor;
+import eu.okaeri.configs.schema.FieldDeclaration;
+import eu.okaeri.configs.schema.GenericsDeclaration;
+import eu.okaeri.configs.serdes.ObjectTransformer;
+import eu.okaeri.configs.serdes.SerdesContext;
+import eu.okaeri.configs.serdes.SerdesRegistry;
+import eu.okaeri.configs.serdes.standard.StandardSerdes;
+import eu.okaeri.configs.serdes.standard.StringToStringTransformer;
+import eu.okaeri.configs.util.Numbers;
+import lombok.NonNull;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-class load/save plan, used when enabled with {@link OkaeriConfigOptions#compiledCodec(boolean)}.
+ * <p>
+ * The plan is compiled once per config class and holds everything that does not depend
+ * on the instance: read-only flags and a codec tree for each field. Leaves of the tree are
+ * plain scalars (String, primitives and their wrappers), inner nodes are collections and maps
+ * with scalar, collection or map elements (e.g. {@code List<Map<String, Integer>>}).
+ * Values matching the tree are assigned and written directly, skipping {@link Configurer#resolveType}
+ * and {@link Configurer#simplify}. Scalars are only handled directly when the configurer does not
+ * override the conversion methods and the registry has no serializer or custom same-type transformer
+ * for them, collections and maps only when the registry has no serializer or string transformer
+ * for them, so the result is the same as with the regular path. Any value of a different runtime
+ * type makes the whole field fall back to the regular path ({@link #FALLBACK}).
+ * <p>
+ * Primitive fields are additionally written and read through the primitive methods of
+ * {@link FieldAccessor}, so numbers loaded as a different wrapper (e.g. {@code Integer} for
+ * a {@code long} field) are converted without creating intermediate wrappers, and unchanged
+ * values are saved using the wrapper captured at load.
+ * <p>
+ * Slots are aligned with the order of {@link ConfigDeclaration#getTemplateFields()}.
+ */
+final class ConfigCodec {
+
+    /**
+     * Returned by {@link #simplify} and {@link #resolve} when the value must be handled by the regular path.
+     */
+    static final Object FALLBACK = new Object();
+
+    private static final Map<Class<?>, ConfigCodec> CODEC_CACHE = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Boolean> PLAIN_CONFIGURERS = new ConcurrentHashMap<>();
+    private static final GenericsDeclaration STRING = GenericsDeclaration.of(String.class);
+
+    private static final List<Class<?>> SCALARS = Arrays.asList(
+        String.class, Boolean.class, Byte.class, Character.class, Short.class, Integer.class, Long.class, Float.class, Double.class
+    );
+
+    // extra flag in directScalars: numeric conversions behave like the standard transformers
+    private static final int NUMERIC = SCALARS.size();
+
+    private final Node[] codecs;
+    private final Primitive[] primitives;
+    private final boolean[] readOnly;
+
+    private ConfigCodec(@NonNull ConfigDeclaration declaration) {
+
+        Collection<FieldDeclaration> fields = declaration.getTemplateFields();
+        int size = fields.size();
+        this.codecs = new Node[size];
+        this.primitives = new Primitive[size];
+        this.readOnly = new boolean[size];
+
+        int index = 0;
+        for (FieldDeclaration field : fields) {
+            // @TargetType applies only to the field itself, not to the nested elements
+            Class<?> targetType = field.getAnnotation(TargetType.class)
+                .<Class<?>>map(TargetType::value)
+                .orElse(field.getType().getType());
+            this.codecs[index] = (field.getCustomSerializer() == null) ? compile(field.getType(), targetType) : null;
+            this.primitives[index] = ((field.getCustomSerializer() == null) && !field.isFinalField()) ? Primitive.of(field.getType().getType()) : null;
+            this.readOnly[index] = field.getAnnotation(ReadOnly.class).isPresent();
+            index++;
+        }
+    }
+
+    static ConfigCodec of(@NonNull ConfigDeclaration declaration) {
+        return CODEC_CACHE.computeIfAbsent(declaration.getType(), type -> new ConfigCodec(declaration));
+    }
+
+    /**
+     * Resolves which scalar types can be handled directly with the configurer.
+     * Registry is mutable, so this is evaluated once per load/save call.
+     *
+     * @param configurer effective configurer
+     * @return flags indexed like {@link #SCALARS} (plus {@link #NUMERIC}) or null if the configurer customizes conversions
+     */
+    static boolean[] directScalars(@NonNull Configurer configurer) {
+
+        if (!PLAIN_CONFIGURERS.computeIfAbsent(configurer.getClass(), ConfigCodec::isPlain)) {
+            return null;
+        }
+
+        boolean[] direct = new boolean[SCALARS.size() + 1];
+
+        SerdesRegistry registry = configurer.getRegistry();
+        for (int i = 0; i < SCALARS.size(); i++) {
+            Class<?> type = SCALARS.get(i);
+            if (registry.getSerializer(type) != null) {
+                continue;
+            }
+            GenericsDeclaration declaration = GenericsDeclaration.of(type);
+            ObjectTransformer<?, ?> identity = registry.getTransformer(declaration, declaration);
+            direct[i] = (identity == null) || (identity.getClass() == StringToStringTransformer.class);
+        }
+
+        direct[NUMERIC] = isStandardNumeric(registry, direct);
+        return direct;
+    }
+
+    /**
+     * Checks whether number to number conversions in {@link Configurer#resolveType} would be
+     * performed by {@link Numbers#convert}: standard string transformers for all numeric types
+     * and no custom transformers between them.
+     */
+    private static boolean isStandardNumeric(SerdesRegistry registry, boolean[] direct) {
+        for (int i = 0; i < SCALARS.size(); i++) {
+            Class<?> type = SCALARS.get(i);
+            if (!Number.class.isAssignableFrom(type)) {
+                continue;
+            }
+            if (!direct[i]) {
+                return false;
+            }
+            GenericsDeclaration declaration = GenericsDeclaration.of(type);
+            ObjectTransformer<?, ?> fromString = registry.getTransformer(STRING, declaration);
+            if ((fromString == null) || (fromString.getClass().getPackage() != StandardSerdes.class.getPackage())) {
+                return false;
+            }
+            for (ObjectTransformer<?, ?> transformer : registry.getTransformersFrom(declaration)) {
+                Class<?> to = transformer.getPair().getTo().getType();
+                if ((to != type) && SCALARS.contains(to) && Number.class.isAssignableFrom(to)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    boolean isReadOnly(int index) {
+        return this.readOnly[index];
+    }
+
+    /**
+     * Simplifies the field value for saving (conservative mode) using the compiled tree.
+     *
+     * @param index      field slot
+     * @param configurer effective configurer
+     * @param direct     result of {@link #directScalars(Configurer)}
+     * @param value      current value
+     * @return simplified value or {@link #FALLBACK}
+     */
+    Object simplify(int index, @NonNull Configurer configurer, @NonNull boolean[] direct, Object value) {
+        Node codec = this.codecs[index];
+        return (codec == null) ? FALLBACK : codec.simplify(value, configurer, direct);
+    }
+
+    /**
+     * Resolves the raw loaded value into the field type using the compiled tree.
+     *
+     * @param index      field slot
+     * @param configurer effective configurer
+     * @param direct     result of {@link #directScalars(Configurer)}
+     * @param value      raw value
+     * @return resolved value or {@link #FALLBACK}
+     */
+    Object resolve(int index, @NonNull Configurer configurer, @NonNull boolean[] direct, Object value) {
+        Node codec = this.codecs[index];
+        return ((codec == null) || (value == null)) ? FALLBACK : codec.resolve(value, configurer, direct);
+    }
+
+    /**
+     * Loads the raw value into a primitive field without boxing.
+     *
+     * @param index  field slot
+     * @param direct result of {@link #directScalars(Configurer)}
+     * @param field  template field
+     * @param object instance to be written
+     * @param value  raw value
+     * @return wrapper to be used as the starting value or {@link #FALLBACK} if the field was not written
+     */
+    Object loadPrimitive(int index, @NonNull boolean[] direct, @NonNull FieldDeclaration field, @NonNull Object object, Object value) {
+        Primitive primitive = this.primitives[index];
+        if ((primitive == null) || (value == null) || !direct[primitive.scalar]) {
+            return FALLBACK;
+        }
+        return primitive.load(field.getAccessor(), object, value, direct[NUMERIC]) ? primitive.box(field.getAccessor(), object, value) : FALLBACK;
+    }
+
+    /**
+     * Reads the primitive field for saving without boxing unchanged values.
+     *
+     * @param index    field slot
+     * @param direct   result of {@link #directScalars(Configurer)}
+     * @param field    template field
+     * @param object   instance to be read
+     * @param previous wrapper captured at load, reused when the value is unchanged
+     * @return simplified value or {@link #FALLBACK}
+     */
+    Object savePrimitive(int index, @NonNull boolean[] direct, @NonNull FieldDeclaration field, @NonNull Object object, Object previous) {
+        Primitive primitive = this.primitives[index];
+        if ((primitive == null) || !direct[primitive.scalar]) {
+            return FALLBACK;
+        }
+        return primitive.box(field.getAccessor(), object, previous);
+    }
+
+    private static Node compile(GenericsDeclaration type, Class<?> targetType) {
+
+        Class<?> valueType = type.isPrimitive() ? type.wrap() : type.getType();
+        int scalar = SCALARS.indexOf(valueType);
+        if (scalar >= 0) {
+            return new ScalarNode(scalar);
+        }
+
+        if (Collection.class.isAssignableFrom(type.getType()) && Collection.class.isAssignableFrom(targetType)) {
+            GenericsDeclaration elementType = type.getSubtypeAtOrNull(0);
+            Node element = (elementType == null) ? null : compile(elementType, elementType.getType());
+            return (element == null) ? null : new CollectionNode(type, targetType, element);
+        }
+
+        if (Map.class.isAssignableFrom(type.getType()) && Map.class.isAssignableFrom(targetType)) {
+            GenericsDeclaration keyType = type.getSubtypeAtOrNull(0);
+            GenericsDeclaration valueDeclaration = type.getSubtypeAtOrNull(1);
+            Node key = (keyType == null) ? null : compile(keyType, keyType.getType());
+            Node value = (valueDeclaration == null) ? null : compile(valueDeclaration, valueDeclaration.getType());
+            return ((key == null) || (value == null)) ? null : new MapNode(type, targetType, key, value);
+        }
+
+        return null;
+    }
+
+    private static boolean isPlain(Class<?> configurerType) {
+        try {
+            return (configurerType.getMethod("simplify", Object.class, GenericsDeclaration.class, SerdesContext.class, boolean.class).getDeclaringClass() == Configurer.class)
+                && (configurerType.getMethod("simplifyField", Object.class, GenericsDeclaration.class, FieldDeclaration.class, ConfigContext.class).getDeclaringClass() == Configurer.class)
+                && (configurerType.getMethod("simplifyCollection", Collection.class, GenericsDeclaration.class, SerdesContext.class, boolean.class).getDeclaringClass() == Configurer.class)
+                && (configurerType.getMethod("simplifyMap", Map.class, GenericsDeclaration.class, SerdesContext.class, boolean.class).getDeclaringClass() == Configurer.class)
+                && (configurerType.getMethod("isToStringObject", Object.class, GenericsDeclaration.class, SerdesContext.class).getDeclaringClass() == Configurer.class)
+                && (configurerType.getMethod("resolveTargetBaseType", SerdesContext.class, GenericsDeclaration.class, GenericsDeclaration.class).getDeclaringClass() == Configurer.class)
+                && (configurerType.getMethod("resolveValue", Object.class, Class.class, GenericsDeclaration.class, SerdesContext.class).getDeclaringClass() == Configurer.class)
+                && (configurerType.getMethod("resolveType", Object.class, GenericsDeclaration.class, Class.class, GenericsDeclaration.class, SerdesContext.class).getDeclaringClass() == Configurer.class);
+        } catch (NoSuchMethodException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * Primitive field access, mirrors the boxing and numeric branches of {@link Configurer#resolveType}.
+     * Integral fields accept any number that is exactly integral and in range, floating point fields
+     * accept integral numbers and (for float) doubles; float to double goes through the regular path
+     * as it keeps the decimal representation.
+     */
+    private enum Primitive {
+
+        BOOLEAN(Boolean.class) {
+            @Override
+            boolean load(FieldAccessor accessor, Object target, Object value, boolean numeric) {
+                if (!(value instanceof Boolean)) {
+                    return false;
+                }
+                accessor.setBoolean(target, (Boolean) value);
+                return true;
+            }
+
+            @Override
+            Object box(FieldAccessor accessor, Object target, Object previous) {
+                return accessor.getBoolean(target);
+            }
+        },
+        CHAR(Character.class) {
+            @Override
+            boolean load(FieldAccessor accessor, Object target, Object value, boolean numeric) {
+                if (!(value instanceof Character)) {
+                    return false;
+                }
+                accessor.setChar(target, (Character) value);
+                return true;
+            }
+
+            @Override
+            Object box(FieldAccessor accessor, Object target, Object previous) {
+                char value = accessor.getChar(target);
+                return ((previous instanceof Character) && ((Character) previous == value)) ? previous : (Object) value;
+            }
+        },
+        BYTE(Byte.class) {
+            @Override
+            boolean load(FieldAccessor accessor, Object target, Object value, boolean numeric) {
+                if (!this.isIntegral(value, numeric, Byte.MIN_VALUE, Byte.MAX_VALUE)) {
+                    return false;
+                }
+                accessor.setByte(target, ((Number) value).byteValue());
+                return true;
+            }
+
+            @Override
+            Object box(FieldAccessor accessor, Object target, Object previous) {
+                return accessor.getByte(target);
+            }
+        },
+        SHORT(Short.class) {
+            @Override
+            boolean load(FieldAccessor accessor, Object target, Object value, boolean numeric) {
+                if (!this.isIntegral(value, numeric, Short.MIN_VALUE, Short.MAX_VALUE)) {
+                    return false;
+                }
+                accessor.setShort(target, ((Number) value).shortValue());
+                return true;
+            }
+
+            @Override
+            Object box(FieldAccessor accessor, Object target, Object previous) {
+                short value = accessor.getShort(target);
+                return ((previous instanceof Short) && ((Short) previous == value)) ? previous : (Object) value;
+            }
+        },
+        INT(Integer.class) {
+            @Override
+            boolean load(FieldAccessor accessor, Object target, Object value, boolean numeric) {
+                if (!this.isIntegral(value, numeric, Integer.MIN_VALUE, Integer.MAX_VALUE)) {
+                    return false;
+                }
+                accessor.setInt(target, ((Number) value).intValue());
+                return true;
+            }
+
+            @Override
+            Object box(FieldAccessor accessor, Object target, Object previous) {
+                int value = accessor.getInt(target);
+                return ((previous instanceof Integer) && ((Integer) previous == value)) ? previous : (Object) value;
+            }
+        },
+        LONG(Long.class) {
+            @Override
+            boolean load(FieldAccessor accessor, Object target, Object value, boolean numeric) {
+                if (!this.isIntegral(value, numeric, Long.MIN_VALUE, Long.MAX_VALUE)) {
+                    return false;
+                }
+                accessor.setLong(target, ((Number) value).longValue());
+                return true;
+            }
+
+            @Override
+            Object box(FieldAccessor accessor, Object target, Object previous) {
+                long value = accessor.getLong(target);
+                return ((previous instanceof Long) && ((Long) previous == value)) ? previous : (Object) value;
+            }
+        },
+        FLOAT(Float.class) {
+            @Override
+            boolean load(FieldAccessor accessor, Object target, Object value, boolean numeric) {
+                if (!(value instanceof Float) && !(numeric && ((value instanceof Double) || isIntegralType(value)))) {
+                    return false;
+                }
+                accessor.setFloat(target, ((Number) value).floatValue());
+                return true;
+            }
+
+            @Override
+            Object box(FieldAccessor accessor, Object target, Object previous) {
+                float value = accessor.getFloat(target);
+                return ((previous instanceof Float) && (Float.floatToIntBits((Float) previous) == Float.floatToIntBits(value))) ? previous : (Object) value;
+            }
+        },
+        DOUBLE(Double.class) {
+            @Override
+            boolean load(FieldAccessor accessor, Object target, Object value, boolean numeric) {
+                if (!(value instanceof Double) && !(numeric && isIntegralType(value))) {
+                    return false;
+                }
+                accessor.setDouble(target, ((Number) value).doubleValue());
+                return true;
+            }
+
+            @Override
+            Object box(FieldAccessor accessor, Object target, Object previous) {
+                double value = accessor.getDouble(target);
+                return ((previous instanceof Double) && (Double.doubleToLongBits((Double) previous) == Double.doubleToLongBits(value))) ? previous : (Object) value;
+            }
+        };
+
+        private final int scalar;
+
+        Primitive(Class<?> wrapper) {
+            this.scalar = SCALARS.indexOf(wrapper);
+        }
+
+        static Primitive of(Class<?> type) {
+            if (!type.isPrimitive()) {
+                return null;
+            }
+            for (Primitive primitive : values()) {
+                if (SCALARS.get(primitive.scalar) == GenericsDeclaration.of(type).wrap()) {
+                    return primitive;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * @return true if the value was written to the field
+         */
+        abstract boolean load(FieldAccessor accessor, Object target, Object value, boolean numeric);
+
+        /**
+         * @return current field value, {@code previous} if it is the same wrapper value
+         */
+        abstract Object box(FieldAccessor accessor, Object target, Object previous);
+
+        // exact wrapper, or any exactly integral number in range when numeric conversions are standard
+        boolean isIntegral(Object value, boolean numeric, long min, long max) {
+            if ((value == null) || (value.getClass() != SCALARS.get(this.scalar))) {
+                if (!numeric || !(value instanceof Number)) {
+                    return false;
+                }
+                if (!isIntegralType(value) && !Numbers.isExactIntegral((Number) value)) {
+                    return false;
+                }
+            }
+            long longValue = ((Number) value).longValue();
+            return (longValue >= min) && (longValue <= max);
+        }
+
+        private static boolean isIntegralType(Object value) {
+            return (value instanceof Integer) || (value instanceof Long) || (value instanceof Short) || (value instanceof Byte);
+        }
+    }
+
+    private abstract static class Node {
+
+        abstract Object simplify(Object value, Configurer configurer, boolean[] direct);
+
+        abstract Object resolve(Object value, Configurer configurer, boolean[] direct);
+    }
+
+    /**
+     * Exact-typed scalar, already in its simplified form.
+     */
+    private static final class ScalarNode extends Node {
+
+        private final int scalar;
+
+        private ScalarNode(int scalar) {
+            this.scalar = scalar;
+        }
+
+        @Override
+        Object simplify(Object value, Configurer configurer, boolean[] direct) {
+            return this.resolve(value, configurer, direct);
+        }
+
+        @Override
+        Object resolve(Object value, Configurer configurer, boolean[] direct) {
+            if (value == null) {
+                return null;
+            }
+            return (direct[this.scalar] && (value.getClass() == SCALARS.get(this.scalar))) ? value : FALLBACK;
+        }
+    }
+
+    /**
+     * Collection with compiled element codec, mirrors {@link Configurer#simplifyCollection}
+     * and the collection branch of {@link Configurer#resolveType}.
+     */
+    private static final class CollectionNode extends Node {
+
+        private final GenericsDeclaration type;
+        private final Class<?> targetType;
+        private final Node element;
+
+        private CollectionNode(GenericsDeclaration type, Class<?> targetType, Node element) {
+            this.type = type;
+            this.targetType = targetType;
+            this.element = element;
+        }
+
+        @Override
+        Object simplify(Object value, Configurer configurer, boolean[] direct) {
+
+            if (value == null) {
+                return null;
+            }
+
+            if (!this.type.getType().isInstance(value) || !isPlainContainer(configurer, this.type, true)) {
+                return FALLBACK;
+            }
+
+            Collection<?> collection = (Collection<?>) value;
+            List<Object> simplified = new ArrayList<>(collection.size());
+            for (Object item : collection) {
+                Object simplifiedItem = this.element.simplify(item, configurer, direct);
+                if (simplifiedItem == FALLBACK) {
+                    return FALLBACK;
+                }
+                simplified.add(simplifiedItem);
+            }
+
+            return simplified;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Object resolve(Object value, Configurer configurer, boolean[] direct) {
+
+            if (value == null) {
+                return null;
+            }
+
+            if (!(value instanceof Collection) || !isPlainContainer(configurer, this.type, false)) {
+                return FALLBACK;
+            }
+
+            Collection<Object> resolved;
+            try {
+                resolved = (Collection<Object>) configurer.createInstance(this.targetType, this.type, value);
+            } catch (OkaeriException exception) {
+                return FALLBACK;
+            }
+
+            for (Object item : (Collection<?>) value) {
+                Object resolvedItem = this.element.resolve(item, configurer, direct);
+                if (resolvedItem == FALLBACK) {
+                    return FALLBACK;
+                }
+                resolved.add(resolvedItem);
+            }
+
+            return configurer.getCollectionFactory().complete(resolved, this.type);
+        }
+    }
+
+    /**
+     * Map with compiled key and value codecs, mirrors {@link Configurer#simplifyMap}
+     * and the map branch of {@link Configurer#resolveType}.
+     */
+    private static final class MapNode extends Node {
+
+        private final GenericsDeclaration type;
+        private final Class<?> targetType;
+        private final Node key;
+        private final Node value;
+
+        private MapNode(GenericsDeclaration type, Class<?> targetType, Node key, Node value) {
+            this.type = type;
+            this.targetType = targetType;
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        Object simplify(Object value, Configurer configurer, boolean[] direct) {
+
+            if (value == null) {
+                return null;
+            }
+
+            if (!this.type.getType().isInstance(value) || !isPlainContainer(configurer, this.type, true)) {
+                return FALLBACK;
+            }
+
+            Map<Object, Object> simplified = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                Object simplifiedKey = this.key.simplify(entry.getKey(), configurer, direct);
+                if (simplifiedKey == FALLBACK) {
+                    return FALLBACK;
+                }
+                Object simplifiedValue = this.value.simplify(entry.getValue(), configurer, direct);
+                if (simplifiedValue == FALLBACK) {
+                    return FALLBACK;
+                }
+                simplified.put(simplifiedKey, simplifiedValue);
+            }
+
+            return simplified;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Object resolve(Object value, Configurer configurer, boolean[] direct) {
+
+            if (value == null) {
+                return null;
+            }
+
+            if (!(value instanceof Map) || !isPlainContainer(configurer, this.type, false)) {
+                return FALLBACK;
+            }
+
+            Map<Object, Object> resolved;
+            try {
+                resolved = (Map<Object, Object>) configurer.createInstance(this.targetType, this.type, value);
+            } catch (OkaeriException exception) {
+                return FALLBACK;
+            }
+
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                Object resolvedKey = this.key.resolve(entry.getKey(), configurer, direct);
+                if (resolvedKey == FALLBACK) {
+                    return FALLBACK;
+                }
+                Object resolvedValue = this.value.resolve(entry.getValue(), configurer, direct);
+                if (resolvedValue == FALLBACK) {
+                    return FALLBACK;
+                }
+                resolved.put(resolvedKey, resolvedValue);
+            }
+
+            return configurer.getCollectionFactory().complete(resolved, this.type);
+        }
+    }
+
+    /**
+     * Checks whether the regular path would handle the container generically
+     * (no registered serializer and, for saving, no conversion to string).
+     */
+    private static boolean isPlainContainer(Configurer configurer, GenericsDeclaration type, boolean simplify) {
+        SerdesRegistry registry = configurer.getRegistry();
+        if (registry.getSerializer(type.getType()) != null) {
+            return false;
+        }
+        return !simplify || registry.getTransformerRoute(type, STRING).isEmpty();
+    }
+}
@@ -53,6 +53,48 @@ public class ConfigContext {
     @Setter
     private boolean removeOrphans = false;
 
+    /**
+     * Whether to use compiled per-class load/save plans for plain scalar fields.
+     */
+    @Getter
+    @Setter
+    private boolean compiledCodec = false;
+
+    /**
+     * Whether to save files by streaming to a sibling temporary file that atomically replaces the target.
+     */
+    @Getter
+    @Setter
+    private boolean atomicSave = false;
+
+    /**
+     * Whether to force saved file content to the storage device before completing the save.
+     */
+    @Getter
+    @Setter
+    private boolean syncOnSave = false;
+
+    /**
+     * Whether to keep the in-memory save buffer between saves of the non-atomic mode.
+     */
+    @Getter
+    @Setter
+    private boolean saveBufferReuse = false;
+
+    /**
+     * Whether to skip writing files that already contain the serialized output.
+     */
+    @Getter
+    @Setter
+    private boolean skipUnchangedSave = false;
+
+    /**
+     * Whether to reuse simplified values of fields not changed since the last save.
+     */
+    @Getter
+    @Setter
+    private boolean incrementalSave = false;
+
     /**
      * Single validator for field values.
      * If you need multiple validators, create a composite validator.
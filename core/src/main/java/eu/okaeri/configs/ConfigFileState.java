@@ -0,0 +1,71 @@
+package eu.okaeri.configs;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Content digest and attributes of the file last loaded or saved by a config,
+ * used when enabled with {@link OkaeriConfigOptions#skipUnchangedSave(boolean)}.
+ * <p>
+ * A save is skipped only if the serialized output has the same digest and the file
+ * still has the size and modification time seen at that point, so files changed or
+ * removed in the meantime are always written.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class ConfigFileState {
+
+    private final Path path;
+    private final byte[] digest;
+    private final long size;
+    private final FileTime modified;
+
+    static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 not available", exception);
+        }
+    }
+
+    static BasicFileAttributes stat(@NonNull Path path) throws IOException {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (NoSuchFileException exception) {
+            return null;
+        }
+    }
+
+    static ConfigFileState of(@NonNull Path path, byte @NonNull [] digest, BasicFileAttributes attributes) {
+        if ((attributes == null) || !attributes.isRegularFile()) {
+            return null;
+        }
+        return new ConfigFileState(path, digest, attributes.size(), attributes.lastModifiedTime());
+    }
+
+    static ConfigFileState of(@NonNull Path path, byte @NonNull [] digest) throws IOException {
+        return of(path, digest, stat(path));
+    }
+
+    boolean matches(@NonNull Path path, byte @NonNull [] digest) throws IOException {
+
+        if (!this.path.equals(path) || !MessageDigest.isEqual(this.digest, digest)) {
+            return false;
+        }
+
+        BasicFileAttributes attributes = stat(path);
+        return (attributes != null)
+            && attributes.isRegularFile()
+            && (attributes.size() == this.size)
+            && attributes.lastModifiedTime().equals(this.modified);
+    }
+}
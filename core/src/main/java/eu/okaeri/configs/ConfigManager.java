@@ -7,6 +7,7 @@ import eu.okaeri.configs.schema.ConfigDeclaration;
 import eu.okaeri.configs.schema.FieldDeclaration;
 import eu.okaeri.configs.schema.GenericsDeclaration;
 import eu.okaeri.configs.serdes.SerdesContext;
+import eu.okaeri.configs.util.Instantiator;
 import eu.okaeri.configs.util.UnsafeUtil;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -33,15 +34,13 @@ public final class ConfigManager {
      */
     public static <T extends OkaeriConfig> T create(@NonNull Class<T> clazz) throws OkaeriException {
 
-        T config;
-        try {
-            config = clazz.newInstance();
-        } catch (InstantiationException | IllegalAccessException exception) {
+        Instantiator<T> instantiator = Instantiator.of(clazz);
+        if (!instantiator.hasConstructor()) {
             throw new OkaeriException("cannot create " + clazz.getSimpleName() + " instance: " +
                 "make sure default constructor is available or if subconfig use new instead");
         }
 
-        return initialize(config);
+        return initialize(instantiator.newInstance());
     }
 
     /**
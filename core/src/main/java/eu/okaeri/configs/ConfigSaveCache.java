@@ -0,0 +1,114 @@
+package eu.okaeri.configs;
+
+import eu.okaeri.configs.configurer.Configurer;
+import eu.okaeri.configs.schema.ConfigDeclaration;
+import eu.okaeri.configs.schema.FieldDeclaration;
+import eu.okaeri.configs.schema.GenericsDeclaration;
+import eu.okaeri.configs.serdes.SerdesRegistry;
+import lombok.NonNull;
+
+import java.util.Collection;
+
+/**
+ * Simplified field values of the last save, used when enabled with {@link OkaeriConfigOptions#incrementalSave(boolean)}.
+ * <p>
+ * A field is saved again only if it is dirty: it was updated with {@link OkaeriConfig#set(String, Object)}
+ * or marked with {@link OkaeriConfig#markDirty(String)}, or its current value is not the value captured
+ * at the last save. Values are compared by identity, except for immutable scalars (String, primitive
+ * wrappers) which are compared with equals. Values changed in place (e.g. an element added to a list
+ * that is still the same instance) are not detected and have to be marked dirty.
+ * <p>
+ * Fields that may contain subconfigs (declared as or with elements of a config or {@code Object} type)
+ * are never cached, as subconfigs are commonly changed in place.
+ * The cache is only valid for the configurer and registry version it was created with.
+ */
+final class ConfigSaveCache {
+
+    private static final Object MISSING = new Object();
+
+    private final Configurer configurer;
+    private final SerdesRegistry registry;
+    private final long version;
+    private final boolean[] cacheable;
+    private final Object[] values;
+    private final Object[] simplified;
+
+    private ConfigSaveCache(@NonNull Configurer configurer, @NonNull ConfigDeclaration declaration) {
+        this.configurer = configurer;
+        this.registry = configurer.getRegistry();
+        this.version = this.registry.getVersion();
+        Collection<FieldDeclaration> fields = declaration.getTemplateFields();
+        int size = fields.size();
+        this.cacheable = new boolean[size];
+        this.values = new Object[size];
+        this.simplified = new Object[size];
+        int index = 0;
+        for (FieldDeclaration field : fields) {
+            this.cacheable[index] = !containsConfig(field.getType());
+            this.simplified[index] = MISSING;
+            index++;
+        }
+    }
+
+    /**
+     * @return the cache itself if still valid for the configurer, a new empty cache otherwise
+     */
+    static ConfigSaveCache of(ConfigSaveCache cache, @NonNull Configurer configurer, @NonNull ConfigDeclaration declaration) {
+        if ((cache != null)
+            && (cache.configurer == configurer)
+            && (cache.registry == configurer.getRegistry())
+            && (cache.version == cache.registry.getVersion())
+            && (cache.values.length == declaration.getTemplateFields().size())) {
+            return cache;
+        }
+        return new ConfigSaveCache(configurer, declaration);
+    }
+
+    /**
+     * @return simplified value saved for the same value or {@link ConfigCodec#FALLBACK} if the field is dirty
+     */
+    Object get(int index, Object value) {
+        Object simplified = this.simplified[index];
+        if ((simplified == MISSING) || !isSameValue(this.values[index], value)) {
+            return ConfigCodec.FALLBACK;
+        }
+        return simplified;
+    }
+
+    void put(int index, Object value, Object simplified) {
+        if (!this.cacheable[index] || (value instanceof OkaeriConfig)) {
+            return;
+        }
+        this.values[index] = value;
+        this.simplified[index] = simplified;
+    }
+
+    void invalidate(int index) {
+        this.values[index] = null;
+        this.simplified[index] = MISSING;
+    }
+
+    private static boolean isSameValue(Object saved, Object current) {
+        if (saved == current) {
+            return true;
+        }
+        if ((current == null) || (saved == null) || (saved.getClass() != current.getClass())) {
+            return false;
+        }
+        return ((current instanceof String) || GenericsDeclaration.of(current.getClass()).isPrimitiveWrapper()) && current.equals(saved);
+    }
+
+    private static boolean containsConfig(GenericsDeclaration type) {
+        if (type.isConfig() || (type.getType() == Object.class)) {
+            return true;
+        }
+        if (type.getSubtype() != null) {
+            for (GenericsDeclaration subtype : type.getSubtype()) {
+                if (containsConfig(subtype)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
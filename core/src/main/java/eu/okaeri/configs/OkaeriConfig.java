@@ -20,10 +20,17 @@ import eu.okaeri.configs.serdes.ValuePreProcessor;
 import lombok.*;
 
 import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 import java.util.*;
 import java.util.function.Consumer;
 import java.util.logging.Logger;
@@ -67,6 +74,28 @@ public abstract class OkaeriConfig {
     @Setter
     private ConfigPath internalPath = ConfigPath.root();
 
+    /**
+     * Buffer kept between file saves when {@link ConfigContext#isSaveBufferReuse()} is enabled.
+     */
+    private ByteArrayOutputStream saveBuffer;
+
+    /**
+     * File last loaded or saved when {@link ConfigContext#isSkipUnchangedSave()} is enabled.
+     */
+    private ConfigFileState fileState;
+
+    /**
+     * Whether the last {@link #save(File)} has written the file. False if the write was skipped
+     * because the output was the same as the file content (see {@link OkaeriConfigOptions#skipUnchangedSave(boolean)}).
+     */
+    @Getter
+    private boolean lastSaveWritten;
+
+    /**
+     * Simplified field values of the last save when {@link ConfigContext#isIncrementalSave()} is enabled.
+     */
+    private ConfigSaveCache saveCache;
+
     /**
      * Checks if this config is a subconfig (nested within another config).
      * A subconfig has no direct configurer but shares context with the root.
@@ -332,6 +361,7 @@ public abstract class OkaeriConfig {
         if (field != null) {
             value = effectiveConfigurer.resolveType(value, GenericsDeclaration.of(value), field.getType().getType(), field.getType(), SerdesContext.of(effectiveConfigurer, this.context, field));
             field.updateValue(value);
+            this.markDirty(key);
         }
 
         // Store in internalState for non-declared keys (orphans)
@@ -340,6 +370,23 @@ public abstract class OkaeriConfig {
         this.internalState.put(key, simplified);
     }
 
+    /**
+     * Marks the field with the given key as changed, so that it is simplified again on the next save.
+     * Only needed with {@link OkaeriConfigOptions#incrementalSave(boolean)} enabled for values changed
+     * in place (e.g. an element added to a list field), as replaced values are detected automatically.
+     *
+     * @param key target key
+     */
+    public void markDirty(@NonNull String key) {
+
+        if (this.saveCache == null) {
+            return;
+        }
+
+        // slots are aligned with the order of declared fields
+        this.getDeclaration().getTemplateField(key).ifPresent(field -> this.saveCache.invalidate(field.getSlot()));
+    }
+
     /**
      * Gets configuration value by its raw key.
      *
@@ -436,31 +483,170 @@ public abstract class OkaeriConfig {
     /**
      * Saves current configuration state to the specific file.
      * <p>
-     * This method serializes to memory first before writing to disk to prevent
-     * data loss if serialization fails. The original file content is preserved
-     * if any error occurs during the save operation.
+     * By default, this method serializes to memory first before writing to disk to prevent
+     * data loss if serialization fails. With {@link ConfigContext#isAtomicSave()} enabled,
+     * the output is written to a temporary file next to the target instead, which then
+     * replaces the target (symbolic links are followed, permissions and owner of the
+     * existing file are kept). In both modes the original file content is preserved
+     * if any error occurs during serialization.
+     * <p>
+     * With {@link ConfigContext#isSkipUnchangedSave()} enabled, the digest of the output is
+     * computed while writing and the file is not written (replaced) if it already has the same
+     * content (see {@link #isLastSaveWritten()}).
      *
      * @param file target file
      * @return this instance
      * @throws OkaeriException if {@link #configurer} is null or saving fails
      */
     public OkaeriConfig save(@NonNull File file) throws OkaeriException {
+
+        boolean skipUnchanged = (this.context != null) && this.context.isSkipUnchangedSave();
+        if ((this.context != null) && this.context.isAtomicSave()) {
+            return this.saveAtomic(file, skipUnchanged);
+        }
+
         // serialize to memory first to prevent data loss on errors
-        ByteArrayOutputStream memoryBuffer = new ByteArrayOutputStream();
-        this.save(memoryBuffer);
+        ByteArrayOutputStream memoryBuffer = this.saveBuffer();
+        MessageDigest digest = skipUnchanged ? ConfigFileState.newDigest() : null;
+        this.save((digest == null) ? memoryBuffer : new DigestOutputStream(memoryBuffer, digest));
         // only write to disk if serialization succeeded
         try {
+            Path path = file.toPath().toAbsolutePath().normalize();
+            byte[] contentDigest = (digest == null) ? null : digest.digest();
+            if ((contentDigest != null) && (this.fileState != null) && this.fileState.matches(path, contentDigest)) {
+                this.lastSaveWritten = false;
+                return this;
+            }
             File parentFile = file.getParentFile();
             if (parentFile != null) parentFile.mkdirs();
             try (FileOutputStream fileOut = new FileOutputStream(file, false)) {
                 memoryBuffer.writeTo(fileOut);
+                if (this.context.isSyncOnSave()) {
+                    fileOut.getChannel().force(true);
+                }
             }
+            this.fileState = (contentDigest == null) ? null : ConfigFileState.of(path, contentDigest);
+            this.lastSaveWritten = true;
             return this;
         } catch (IOException exception) {
             throw new OkaeriException("failed #save using file " + file, exception);
         }
     }
 
+    private ByteArrayOutputStream saveBuffer() {
+
+        if ((this.context == null) || !this.context.isSaveBufferReuse()) {
+            this.saveBuffer = null;
+            return new ByteArrayOutputStream();
+        }
+
+        if (this.saveBuffer == null) {
+            this.saveBuffer = new ByteArrayOutputStream(8192);
+        } else {
+            this.saveBuffer.reset();
+        }
+        return this.saveBuffer;
+    }
+
+    // streams the output to a temporary file which then replaces the target, unless the digest matches the file
+    private OkaeriConfig saveAtomic(@NonNull File file, boolean skipUnchanged) throws OkaeriException {
+
+        Path path = file.toPath().toAbsolutePath().normalize();
+        Path temp = null;
+
+        try {
+            // replace the file a symbolic link points to, not the link itself
+            Path target = Files.exists(path) ? path.toRealPath() : path;
+            Path directory = target.getParent();
+            Files.createDirectories(directory);
+
+            // same directory as the target, so the rename stays on one file store
+            temp = directory.resolve("." + target.getFileName() + "." + Long.toHexString(System.nanoTime()) + ".tmp");
+            MessageDigest digest = skipUnchanged ? ConfigFileState.newDigest() : null;
+            byte[] contentDigest;
+
+            try (FileChannel channel = createTemp(temp, target)) {
+                // configurers may close the stream, keep the channel open until it is synced
+                OutputStream output = new BufferedOutputStream(Channels.newOutputStream(channel), 8192);
+                this.save(new FilterOutputStream((digest == null) ? output : new DigestOutputStream(output, digest)) {
+                    @Override
+                    public void write(byte[] bytes, int offset, int length) throws IOException {
+                        this.out.write(bytes, offset, length);
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        this.out.flush();
+                    }
+                });
+                output.flush();
+                contentDigest = (digest == null) ? null : digest.digest();
+                if ((contentDigest != null) && (this.fileState != null) && this.fileState.matches(path, contentDigest)) {
+                    this.lastSaveWritten = false;
+                    return this;
+                }
+                if (this.context.isSyncOnSave()) {
+                    channel.force(true);
+                }
+            }
+
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException exception) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            this.fileState = (contentDigest == null) ? null : ConfigFileState.of(path, contentDigest);
+            this.lastSaveWritten = true;
+            return this;
+        } catch (IOException exception) {
+            throw new OkaeriException("failed #save using file " + file, exception);
+        } finally {
+            try {
+                if (temp != null) Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    // creates the temporary file with permissions and owner of the replaced file (if any, on POSIX file systems)
+    private static FileChannel createTemp(@NonNull Path temp, @NonNull Path target) throws IOException {
+
+        PosixFileAttributeView targetView = Files.getFileAttributeView(target, PosixFileAttributeView.class);
+        PosixFileAttributes attributes = null;
+        if ((targetView != null) && Files.exists(target)) {
+            try {
+                attributes = targetView.readAttributes();
+            } catch (NoSuchFileException ignored) {
+            }
+        }
+
+        if (attributes == null) {
+            return FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        }
+
+        // created with at most the target permissions (umask may only remove some), so the content is never more exposed
+        FileChannel channel = FileChannel.open(temp, EnumSet.of(StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE),
+            PosixFilePermissions.asFileAttribute(attributes.permissions()));
+        try {
+            PosixFileAttributeView tempView = Files.getFileAttributeView(temp, PosixFileAttributeView.class);
+            tempView.setPermissions(attributes.permissions());
+            // changing owner or group may require privileges, the file then keeps the ones of the current user
+            try {
+                tempView.setOwner(attributes.owner());
+            } catch (IOException ignored) {
+            }
+            try {
+                tempView.setGroup(attributes.group());
+            } catch (IOException ignored) {
+            }
+        } catch (IOException | RuntimeException exception) {
+            channel.close();
+            throw exception;
+        }
+
+        return channel;
+    }
+
     /**
      * Saves current configuration state to the specific path.
      *
@@ -515,18 +701,56 @@ public abstract class OkaeriConfig {
 
         // Build the data map from declared fields
         Map<String, Object> data = new LinkedHashMap<>();
+        ConfigDeclaration declaration = this.getDeclaration();
+        ConfigCodec codec = this.context.isCompiledCodec() ? ConfigCodec.of(declaration) : null;
+        boolean[] directScalars = (codec == null) ? null : ConfigCodec.directScalars(this.getConfigurer());
+        this.saveCache = this.context.isIncrementalSave() ? ConfigSaveCache.of(this.saveCache, this.getConfigurer(), declaration) : null;
+        ConfigSaveCache saveCache = this.saveCache;
+
+        // template fields with values read by slot, views are created only for the regular path
+        int index = -1;
+        for (FieldDeclaration field : declaration.getTemplateFields()) {
+            index++;
+
+            boolean readOnly = (codec == null) ? field.getAnnotation(ReadOnly.class).isPresent() : codec.isReadOnly(index);
+
+            // compiled plan: primitive fields are read without boxing when unchanged since load
+            if ((directScalars != null) && !readOnly && !declaration.isVariableHide(field)) {
+                Object simplified = codec.savePrimitive(index, directScalars, field, this, declaration.getStartingValue(field));
+                if (simplified != ConfigCodec.FALLBACK) {
+                    data.put(field.getName(), simplified);
+                    continue;
+                }
+            }
 
-        for (FieldDeclaration field : this.getDeclaration().getFields()) {
-            Object valueToSave = field.getAnnotation(ReadOnly.class).isPresent()
-                ? field.getStartingValue()
-                : field.getValue();
+            Object valueToSave = readOnly
+                ? declaration.getStartingValue(field)
+                : declaration.getValue(field);
 
-            try {
-                Object simplified = this.getConfigurer().simplifyField(valueToSave, field.getType(), field, this.context);
+            // incremental save: unchanged values reuse the result of the last save
+            Object simplified = (saveCache == null) ? ConfigCodec.FALLBACK : saveCache.get(index, valueToSave);
+            if (simplified != ConfigCodec.FALLBACK) {
                 data.put(field.getName(), simplified);
-            } catch (Exception exception) {
-                throw new OkaeriException("failed to simplify " + field.getName(), exception);
+                continue;
+            }
+
+            // compiled plan: scalars and their collections/maps matching the field type
+            if (directScalars != null) {
+                simplified = codec.simplify(index, this.getConfigurer(), directScalars, valueToSave);
             }
+
+            if (simplified == ConfigCodec.FALLBACK) {
+                try {
+                    simplified = this.getConfigurer().simplifyField(valueToSave, field.getType(), declaration.bind(field), this.context);
+                } catch (Exception exception) {
+                    throw new OkaeriException("failed to simplify " + field.getName(), exception);
+                }
+            }
+
+            if (saveCache != null) {
+                saveCache.put(index, valueToSave, simplified);
+            }
+            data.put(field.getName(), simplified);
         }
 
         // Handle orphans from internalState
@@ -581,8 +805,9 @@ public abstract class OkaeriConfig {
         Map<String, Object> map = new LinkedHashMap<>();
 
         // fetch by declaration
-        for (FieldDeclaration field : this.getDeclaration().getFields()) {
-            Object simplified = configurer.simplify(field.getValue(), field.getType(), SerdesContext.of(configurer, this.context, field), conservative);
+        ConfigDeclaration declaration = this.getDeclaration();
+        for (FieldDeclaration field : declaration.getTemplateFields()) {
+            Object simplified = configurer.simplify(declaration.getValue(field), field.getType(), SerdesContext.of(configurer, this.context, declaration.bind(field)), conservative);
             map.put(field.getName(), simplified);
         }
 
@@ -720,9 +945,25 @@ public abstract class OkaeriConfig {
      * @throws OkaeriException if {@link #configurer} or {@link #bindFile} is null or loading fails
      */
     public OkaeriConfig load(@NonNull File file) throws OkaeriException {
-        try {
-            return this.load(new FileInputStream(file));
-        } catch (FileNotFoundException exception) {
+
+        if ((this.context == null) || !this.context.isSkipUnchangedSave()) {
+            try {
+                return this.load(new FileInputStream(file));
+            } catch (FileNotFoundException exception) {
+                throw new OkaeriException("failed #load using file " + file, exception);
+            }
+        }
+
+        // attributes are read before the content, so changes made while loading are not missed
+        Path path = file.toPath().toAbsolutePath().normalize();
+        MessageDigest digest = ConfigFileState.newDigest();
+        try (InputStream inputStream = new DigestInputStream(new FileInputStream(file), digest)) {
+            BasicFileAttributes attributes = ConfigFileState.stat(path);
+            this.fileState = null;
+            this.load(inputStream);
+            this.fileState = ConfigFileState.of(path, digest.digest(), attributes);
+            return this;
+        } catch (IOException exception) {
             throw new OkaeriException("failed #load using file " + file, exception);
         }
     }
@@ -888,6 +1129,7 @@ public abstract class OkaeriConfig {
             throw new IllegalStateException("declaration cannot be null: config not initialized");
         }
 
+        this.saveCache = null;
         this.loadValuesFromInternalState();
         this.processVariablesRecursively(this.getDeclaration(), this, new HashSet<>());
 
@@ -912,7 +1154,15 @@ public abstract class OkaeriConfig {
             throw new IllegalStateException("no effective configurer available");
         }
 
-        for (FieldDeclaration field : this.getDeclaration().getFields()) {
+        ConfigDeclaration declaration = this.getDeclaration();
+        ConfigCodec codec = this.context.isCompiledCodec() ? ConfigCodec.of(declaration) : null;
+        boolean[] directScalars = ((codec == null) || this.context.hasValuePreProcessor()) ? null : ConfigCodec.directScalars(effectiveConfigurer);
+
+        // template fields with values written by slot, views are created only for the regular path
+        int index = -1;
+        for (FieldDeclaration field : declaration.getTemplateFields()) {
+            index++;
+
             String fieldName = field.getName();
             GenericsDeclaration genericType = field.getType();
             Class<?> type = field.getType().getType();
@@ -921,11 +1171,30 @@ public abstract class OkaeriConfig {
                 continue;
             }
 
+            // compiled plan: values matching the field type need no resolution (pre-processors may rewrite raw values, so not with them)
+            if (directScalars != null) {
+                Object primitive = codec.loadPrimitive(index, directScalars, field, this, this.internalState.get(fieldName));
+                if (primitive != ConfigCodec.FALLBACK) {
+                    if (!declaration.isVariableHide(field)) {
+                        declaration.setStartingValue(field, primitive);
+                    }
+                    continue;
+                }
+                Object value = codec.resolve(index, effectiveConfigurer, directScalars, this.internalState.get(fieldName));
+                if (value != ConfigCodec.FALLBACK) {
+                    declaration.updateValue(field, value);
+                    if (!declaration.isVariableHide(field)) {
+                        declaration.setStartingValue(field, value);
+                    }
+                    continue;
+                }
+            }
+
             // Build path including any base path
             ConfigPath fieldPath = ((this.internalPath == null) || this.internalPath.isEmpty())
                 ? ConfigPath.of(fieldName)
                 : this.internalPath.property(fieldName);
-            SerdesContext serdesContext = SerdesContext.of(effectiveConfigurer, this.context, field)
+            SerdesContext serdesContext = SerdesContext.of(effectiveConfigurer, this.context, declaration.bind(field))
                 .withPath(fieldPath);
 
             Object rawValue = this.internalState.get(fieldName);
@@ -937,8 +1206,8 @@ public abstract class OkaeriConfig {
                     PreProcessResult result = preProcessor.process(rawValue, serdesContext);
                     if (result.isModified()) {
                         if (!result.isWriteToFile()) {
-                            field.setStartingValue(rawValue);  // Preserve original for save
-                            field.setVariableHide(true);
+                            declaration.setStartingValue(field, rawValue);  // Preserve original for save
+                            declaration.setVariableHide(field, true);
                         }
                         rawValue = result.getValue();
                     }
@@ -974,10 +1243,10 @@ public abstract class OkaeriConfig {
                     .build();
             }
 
-            field.updateValue(value);
+            declaration.updateValue(field, value);
             // Only set startingValue if not already set by pre-processor
-            if (!field.isVariableHide()) {
-                field.setStartingValue(value);
+            if (!declaration.isVariableHide(field)) {
+                declaration.setStartingValue(field, value);
             }
         }
 
@@ -1002,9 +1271,7 @@ public abstract class OkaeriConfig {
         if (!visited.add(configInstance)) {
             return;
         }
-        for (FieldDeclaration field : declaration.getFields()) {
-            // Update the field's object reference
-            field.setObject(configInstance);
+        for (FieldDeclaration field : declaration.getTemplateFields()) {
 
             // Process @Variable for this field
             Variable variable = field.getVariable();
@@ -1018,7 +1285,7 @@ public abstract class OkaeriConfig {
                     ConfigPath fieldPath = ((this.internalPath == null) || this.internalPath.isEmpty())
                         ? ConfigPath.of(field.getName())
                         : this.internalPath.property(field.getName());
-                    SerdesContext serdesContext = SerdesContext.of(effectiveConfigurer, this.context, field).withPath(fieldPath);
+                    SerdesContext serdesContext = SerdesContext.of(effectiveConfigurer, this.context, declaration.bind(field)).withPath(fieldPath);
 
                     Object value;
                     try {
@@ -1037,14 +1304,14 @@ public abstract class OkaeriConfig {
                             .build();
                     }
 
-                    field.updateValue(value);
-                    field.setVariableHide(true);
+                    declaration.updateValue(field, value);
+                    declaration.setVariableHide(field, true);
                 }
             }
 
             // Recursively process nested objects
             try {
-                Object nestedObject = field.getValue();
+                Object nestedObject = declaration.getValue(field);
                 if (nestedObject == null) {
                     continue;
                 }
@@ -1055,7 +1322,7 @@ public abstract class OkaeriConfig {
                 // Only recurse into OkaeriConfig subclasses
                 // Serializable scanning is too broad and dangerous (circular refs, object graphs)
                 if (fieldType.isConfig()) {
-                    ConfigDeclaration nestedDeclaration = ConfigDeclaration.of(nestedClass);
+                    ConfigDeclaration nestedDeclaration = ConfigDeclaration.of(nestedClass, nestedObject);
                     this.processVariablesRecursively(nestedDeclaration, nestedObject, visited);
                 }
             } catch (Exception exception) {
@@ -1080,7 +1347,7 @@ public abstract class OkaeriConfig {
     private void removeOrphansRecursively(@NonNull ConfigDeclaration declaration, @NonNull Map<String, Object> data, @NonNull String keyPrefix, @NonNull Set<String> allOrphans) {
         Configurer effectiveConfigurer = this.getEffectiveConfigurer();
 
-        for (FieldDeclaration field : declaration.getFields()) {
+        for (FieldDeclaration field : declaration.getTemplateFields()) {
             String fieldName = field.getName();
             String fullPath = keyPrefix.isEmpty() ? fieldName : (keyPrefix + "." + fieldName);
 
@@ -1105,7 +1372,7 @@ public abstract class OkaeriConfig {
 
             ConfigDeclaration nestedDeclaration = ConfigDeclaration.of(fieldType.getType());
 
-            Set<String> declaredKeys = nestedDeclaration.getFieldMap().keySet();
+            Set<String> declaredKeys = nestedDeclaration.getFieldNames();
             Set<String> nestedOrphanedKeys = new LinkedHashSet<>(nestedMap.keySet());
             nestedOrphanedKeys.removeAll(declaredKeys);
 
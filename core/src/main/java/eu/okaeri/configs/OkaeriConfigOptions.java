@@ -127,6 +127,22 @@ public class OkaeriConfigOptions {
         return this;
     }
 
+    /**
+     * Discovers serdes packs available on the classpath of the config class and registers
+     * them lazily, so that their components are created only when a handled type is used.
+     *
+     * @return this options for chaining
+     * @throws IllegalStateException if configurer is null
+     * @see eu.okaeri.configs.serdes.DiscoverableSerdes
+     */
+    public OkaeriConfigOptions discoverSerdes() {
+        if (this.config.getConfigurer() == null) {
+            throw new IllegalStateException("configurer cannot be null");
+        }
+        this.config.getConfigurer().getRegistry().discover(this.config.getClass().getClassLoader());
+        return this;
+    }
+
     /**
      * Sets the logger for this configuration tree.
      *
@@ -159,6 +175,133 @@ public class OkaeriConfigOptions {
         return this;
     }
 
+    /**
+     * Sets whether to use compiled per-class load/save plans.
+     * <p>
+     * When enabled, a plan is compiled on first use of each config class and scalar
+     * fields (String, primitives and their wrappers) whose values already have the exact
+     * field type are assigned and written directly, skipping the generic type resolution.
+     * Other fields, as well as configurers or registries customizing scalar handling,
+     * always use the regular path.
+     *
+     * @param compiledCodec true to enable compiled plans, false otherwise
+     * @return this configurer for chaining
+     * @throws IllegalStateException if context is not initialized (configurer not set)
+     */
+    public OkaeriConfigOptions compiledCodec(boolean compiledCodec) {
+        ConfigContext context = this.config.getContext();
+        if (context == null) {
+            throw new IllegalStateException("configurer must be set before setting compiledCodec");
+        }
+        context.setCompiledCodec(compiledCodec);
+        return this;
+    }
+
+    /**
+     * Sets whether to save files atomically.
+     * <p>
+     * When enabled, {@link OkaeriConfig#save(File)} streams the output to a temporary file
+     * next to the target and then renames it over the target (atomically where supported),
+     * so readers never observe a partially written file and the whole output is not buffered
+     * in memory. The previous file is kept if saving fails. Symbolic links are followed, and
+     * permissions and owner (where allowed) of the replaced file are kept on POSIX file systems.
+     *
+     * @param atomicSave true to enable atomic saves, false otherwise
+     * @return this configurer for chaining
+     * @throws IllegalStateException if context is not initialized (configurer not set)
+     */
+    public OkaeriConfigOptions atomicSave(boolean atomicSave) {
+        ConfigContext context = this.config.getContext();
+        if (context == null) {
+            throw new IllegalStateException("configurer must be set before setting atomicSave");
+        }
+        context.setAtomicSave(atomicSave);
+        return this;
+    }
+
+    /**
+     * Sets whether to force saved file content to the storage device (fsync) before the save completes.
+     * Improves durability on crashes at the cost of slower saves.
+     *
+     * @param syncOnSave true to sync on save, false otherwise
+     * @return this configurer for chaining
+     * @throws IllegalStateException if context is not initialized (configurer not set)
+     */
+    public OkaeriConfigOptions syncOnSave(boolean syncOnSave) {
+        ConfigContext context = this.config.getContext();
+        if (context == null) {
+            throw new IllegalStateException("configurer must be set before setting syncOnSave");
+        }
+        context.setSyncOnSave(syncOnSave);
+        return this;
+    }
+
+    /**
+     * Sets whether to reuse the in-memory buffer of non-atomic file saves.
+     * The buffer keeps the capacity of the largest output, avoiding reallocation
+     * on frequent saves at the cost of retaining that memory between saves.
+     *
+     * @param saveBufferReuse true to reuse the buffer, false otherwise
+     * @return this configurer for chaining
+     * @throws IllegalStateException if context is not initialized (configurer not set)
+     */
+    public OkaeriConfigOptions saveBufferReuse(boolean saveBufferReuse) {
+        ConfigContext context = this.config.getContext();
+        if (context == null) {
+            throw new IllegalStateException("configurer must be set before setting saveBufferReuse");
+        }
+        context.setSaveBufferReuse(saveBufferReuse);
+        return this;
+    }
+
+    /**
+     * Sets whether to skip file writes that would not change the file.
+     * <p>
+     * When enabled, {@link OkaeriConfig#save(File)} compares the digest of the serialized output
+     * with the digest of the content last loaded from or saved to the same file, and does not
+     * write (nor touch the modification time of) the file if both are equal and the file was not
+     * modified since. This also applies to {@link OkaeriConfig#load(boolean)} with update.
+     * Whether the last save has written the file is available as {@link OkaeriConfig#isLastSaveWritten()}.
+     * <p>
+     * With {@link #atomicSave(boolean)} enabled, the digest is computed while writing the temporary
+     * file, which is then discarded instead of replacing the target.
+     *
+     * @param skipUnchangedSave true to skip unchanged writes, false otherwise
+     * @return this configurer for chaining
+     * @throws IllegalStateException if context is not initialized (configurer not set)
+     */
+    public OkaeriConfigOptions skipUnchangedSave(boolean skipUnchangedSave) {
+        ConfigContext context = this.config.getContext();
+        if (context == null) {
+            throw new IllegalStateException("configurer must be set before setting skipUnchangedSave");
+        }
+        context.setSkipUnchangedSave(skipUnchangedSave);
+        return this;
+    }
+
+    /**
+     * Sets whether to simplify only fields changed since the last save.
+     * <p>
+     * When enabled, the simplified value of each field is kept after saving and reused by the
+     * next save if the field still holds the same value: the same instance, or an equal String or
+     * primitive wrapper. Fields updated with {@link OkaeriConfig#set(String, Object)} are always
+     * simplified again. Values changed in place (e.g. an element added to a list that is still the
+     * same instance) are not detected and have to be reported with {@link OkaeriConfig#markDirty(String)}.
+     * Fields that may contain subconfigs are always simplified.
+     *
+     * @param incrementalSave true to enable incremental saves, false otherwise
+     * @return this configurer for chaining
+     * @throws IllegalStateException if context is not initialized (configurer not set)
+     */
+    public OkaeriConfigOptions incrementalSave(boolean incrementalSave) {
+        ConfigContext context = this.config.getContext();
+        if (context == null) {
+            throw new IllegalStateException("configurer must be set before setting incrementalSave");
+        }
+        context.setIncrementalSave(incrementalSave);
+        return this;
+    }
+
     /**
      * Sets whether to include consecutive comments above the field in error messages.
      * When enabled, error messages will show all comment lines directly above the
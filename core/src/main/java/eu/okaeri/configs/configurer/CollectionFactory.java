@@ -0,0 +1,52 @@
+package eu.okaeri.configs.configurer;
+
+import eu.okaeri.configs.schema.GenericsDeclaration;
+import lombok.NonNull;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Creates collection and map instances for values deserialized by {@link Configurer#resolveType}.
+ * <p>
+ * The factory receives the target container type (after {@link eu.okaeri.configs.annotation.TargetType}
+ * resolution), the full target declaration including element types, and the source container
+ * whose values are going to be resolved and added, so implementations can presize containers,
+ * pick specialized implementations (e.g. {@link java.util.EnumSet}, primitive collections) or
+ * hand out immutable views in {@link #complete(Object, GenericsDeclaration)}.
+ * <p>
+ * Returning null from {@code create*} methods falls back to reflective instantiation of the type.
+ *
+ * @see StandardCollectionFactory
+ */
+public interface CollectionFactory {
+
+    /**
+     * @param type        the collection type to create (e.g. {@code Set.class} or {@code ArrayList.class})
+     * @param declaration the target declaration, element type is available as subtype 0 (if declared)
+     * @param source      the source collection, its elements are going to be resolved and added
+     * @return mutable collection or null if the type is not handled by this factory
+     */
+    Collection<Object> createCollection(@NonNull Class<?> type, @NonNull GenericsDeclaration declaration, @NonNull Collection<?> source);
+
+    /**
+     * @param type        the map type to create (e.g. {@code Map.class} or {@code HashMap.class})
+     * @param declaration the target declaration, key and value types are available as subtypes 0 and 1 (if declared)
+     * @param source      the source map, its entries are going to be resolved and added
+     * @return mutable map or null if the type is not handled by this factory
+     */
+    Map<Object, Object> createMap(@NonNull Class<?> type, @NonNull GenericsDeclaration declaration, @NonNull Map<?, ?> source);
+
+    /**
+     * Called after all elements were added to a container created with
+     * {@link Configurer#createInstance(Class, GenericsDeclaration, Object)}. This includes containers
+     * of types not handled by this factory, which were created with {@link Configurer#createInstance(Class)}.
+     *
+     * @param container   the filled collection or map
+     * @param declaration the target declaration
+     * @return container to be used as the result, must still be an instance of the requested type
+     */
+    default Object complete(@NonNull Object container, @NonNull GenericsDeclaration declaration) {
+        return container;
+    }
+}
@@ -16,17 +16,19 @@ import eu.okaeri.configs.schema.FieldDeclaration;
 import eu.okaeri.configs.schema.GenericsDeclaration;
 import eu.okaeri.configs.serdes.*;
 import eu.okaeri.configs.serdes.standard.StandardSerdes;
+import eu.okaeri.configs.serdes.standard.StringToStringTransformer;
 import eu.okaeri.configs.util.EnumMatcher;
+import eu.okaeri.configs.util.EnumTable;
+import eu.okaeri.configs.util.Numbers;
 import eu.okaeri.configs.util.UnsafeUtil;
 import lombok.Getter;
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.*;
 
 public abstract class Configurer {
@@ -34,10 +36,17 @@ public abstract class Configurer {
     @Setter
     @Getter
     @NonNull
-    private SerdesRegistry registry = new SerdesRegistry();
-    {
-        this.registry.register(new StandardSerdes());
-    }
+    private SerdesRegistry registry = new SerdesRegistry(StandardSerdes.sharedRegistry());
+
+    @Getter
+    private final ConversionRoutes conversionRoutes = new ConversionRoutes();
+
+    @Setter
+    @Getter
+    @NonNull
+    private CollectionFactory collectionFactory = StandardCollectionFactory.INSTANCE;
+
+    private volatile PlainStrings plainStrings;
 
     public void register(@NonNull OkaeriSerdes pack) {
         this.registry.register(pack);
@@ -106,22 +115,8 @@ public abstract class Configurer {
             return false;
         }
 
-        if (this.registry.canTransform(genericType, GenericsDeclaration.of(String.class))) {
-            return true;
-        }
-
-        List<ObjectTransformer> transformersFrom = this.getRegistry().getTransformersFrom(genericType);
-        for (ObjectTransformer stepOneTransformer : transformersFrom) {
-
-            GenericsDeclaration stepOneTarget = stepOneTransformer.getPair().getTo();
-            ObjectTransformer stepTwoTransformer = this.getRegistry().getTransformer(stepOneTarget, GenericsDeclaration.of(String.class));
-
-            if (stepTwoTransformer != null) {
-                return true;
-            }
-        }
-
-        return false;
+        // direct or two step conversion to string
+        return !this.getRegistry().getTransformerRoute(genericType, GenericsDeclaration.of(String.class)).isEmpty();
     }
 
     @Deprecated
@@ -239,10 +234,8 @@ public abstract class Configurer {
                 ConfigDeclaration declaration = ConfigDeclaration.of(value);
                 SerializationData data = new SerializationData(this, serdesContext);
 
-                declaration.getFields().forEach(field -> data.set(field.getName(), field.getValue(), field.getType()));
-                LinkedHashMap<Object, Object> serializationMap = new LinkedHashMap<>(data.asMap());
-
-                return this.simplifyMap(serializationMap, GenericsDeclaration.of(Map.class, Collections.singletonList(String.class)), serdesContext, conservative);
+                declaration.getTemplateFields().forEach(field -> data.set(field.getName(), declaration.getValue(field), field.getType()));
+                return this.simplifySerializationData(data, serdesContext, conservative);
             }
 
             throw new OkaeriException("cannot simplify type " + serializerType + " (" + genericType + "): '" + value + "' [" + value.getClass() + "]");
@@ -250,9 +243,9 @@ public abstract class Configurer {
 
         SerializationData serializationData = new SerializationData(this, serdesContext);
         serializer.serialize(value, serializationData, (genericType == null) ? GenericsDeclaration.of(value) : genericType);
-        Map<Object, Object> serializationMap = new LinkedHashMap<>(serializationData.asMap());
 
         // replace result object (see ObjectSerializer#VALUE)
+        Map<String, Object> serializationMap = serializationData.asMap();
         if (serializationMap.containsKey(ObjectSerializer.VALUE)) {
             if (serializationMap.size() == 1) {
                 return serializationMap.get(ObjectSerializer.VALUE);
@@ -262,7 +255,46 @@ public abstract class Configurer {
         }
 
         // serialize as map
-        return this.simplifyMap(serializationMap, GenericsDeclaration.of(Map.class, Collections.singletonList(String.class)), serdesContext, conservative);
+        return this.simplifySerializationData(serializationData, serdesContext, conservative);
+    }
+
+    /**
+     * Takes over the serialized map. Values written through the simplifying setters are already
+     * in their conservative form, so they are simplified again only when needed.
+     */
+    @SuppressWarnings("unchecked")
+    private Object simplifySerializationData(SerializationData data, SerdesContext serdesContext, boolean conservative) {
+
+        boolean simplified = conservative && data.isSimplified() && this.hasPlainStrings();
+        Map<String, Object> serializationMap = data.release();
+        if (simplified) {
+            return serializationMap;
+        }
+
+        return this.simplifyMap((Map<Object, Object>) (Map<?, ?>) serializationMap, GenericsDeclaration.of(Map.class, Collections.singletonList(String.class)), serdesContext, conservative);
+    }
+
+    // simplifying strings again is a no-op only with the standard string handling
+    private boolean hasPlainStrings() {
+        SerdesRegistry registry = this.registry;
+        PlainStrings plainStrings = this.plainStrings;
+        if ((plainStrings != null) && (plainStrings.registry == registry) && (plainStrings.version == registry.getVersion())) {
+            return plainStrings.plain;
+        }
+        long version = registry.getVersion();
+        GenericsDeclaration string = GenericsDeclaration.of(String.class);
+        ObjectTransformer transformer = registry.getTransformer(string, string);
+        boolean plain = (registry.getSerializer(String.class) == null)
+            && ((transformer == null) || (transformer.getClass() == StringToStringTransformer.class));
+        this.plainStrings = new PlainStrings(registry, version, plain);
+        return plain;
+    }
+
+    @RequiredArgsConstructor
+    private static final class PlainStrings {
+        private final SerdesRegistry registry;
+        private final long version;
+        private final boolean plain;
     }
 
     /**
@@ -324,6 +356,19 @@ public abstract class Configurer {
             objectSerializer = serdesContext.getField().getCustomSerializer();
         }
 
+        // cached route for plain values of the same runtime class and target
+        // containers are excluded as their branch depends on the declared generics
+        boolean routable = (objectSerializer == null)
+            && !(object instanceof Collection)
+            && !(object instanceof Map)
+            && source.equals(GenericsDeclaration.of(object.getClass()));
+        if (routable) {
+            ConversionRoutes.Route route = this.conversionRoutes.get(this.registry, object.getClass(), target);
+            if (route != null) {
+                return this.resolveRoute(route, object, targetClazz, workingClazz, target, serdesContext);
+            }
+        }
+
         // fallback to registry if no custom serializer
         if (objectSerializer == null) {
             objectSerializer = this.registry.getSerializer(workingClazz);
@@ -378,7 +423,7 @@ public abstract class Configurer {
             if ((object instanceof Collection) && Collection.class.isAssignableFrom(localTargetClazz)) {
 
                 Collection<?> sourceList = (Collection<?>) object;
-                Collection<Object> targetList = (Collection<Object>) this.createInstance(localTargetClazz);
+                Collection<Object> targetList = (Collection<Object>) this.createInstance(localTargetClazz, genericTarget, sourceList);
                 GenericsDeclaration listDeclaration = genericTarget.getSubtypeAtOrNull(0);
 
                 int index = 0;
@@ -388,7 +433,7 @@ public abstract class Configurer {
                     index++;
                 }
 
-                return localTargetClazz.cast(targetList);
+                return localTargetClazz.cast(this.collectionFactory.complete(targetList, genericTarget));
             }
 
             // maps
@@ -397,7 +442,7 @@ public abstract class Configurer {
                 Map<Object, Object> values = ((Map<Object, Object>) object);
                 GenericsDeclaration keyDeclaration = genericTarget.getSubtypeAtOrNull(0);
                 GenericsDeclaration valueDeclaration = genericTarget.getSubtypeAtOrNull(1);
-                Map<Object, Object> map = (Map<Object, Object>) this.createInstance(localTargetClazz);
+                Map<Object, Object> map = (Map<Object, Object>) this.createInstance(localTargetClazz, genericTarget, values);
 
                 for (Map.Entry<Object, Object> entry : values.entrySet()) {
                     SerdesContext entryContext = serdesContext.withKey(entry.getKey());
@@ -406,7 +451,7 @@ public abstract class Configurer {
                     map.put(key, value);
                 }
 
-                return localTargetClazz.cast(map);
+                return localTargetClazz.cast(this.collectionFactory.complete(map, genericTarget));
             }
         }
 
@@ -416,118 +461,47 @@ public abstract class Configurer {
 
             // enums
             Class<?> objectClazz = object.getClass();
-            try {
-                if ((object instanceof String) && target.isEnum()) {
-                    String strObject = (String) object;
-                    // 1:1 match ONE=ONE
-                    try {
-                        Method enumMethod = targetClazz.getMethod("valueOf", String.class);
-                        Object enumValue = enumMethod.invoke(null, strObject);
-                        if (enumValue != null) {
-                            return targetClazz.cast(enumValue);
-                        }
-                    }
-                    // match first case-insensitive
-                    catch (InvocationTargetException ignored) {
-                        Enum[] enumValues = (Enum[]) targetClazz.getEnumConstants();
-                        for (Enum value : enumValues) {
-                            if (!strObject.equalsIgnoreCase(value.name())) {
-                                continue;
-                            }
-                            return targetClazz.cast(value);
-                        }
-                    }
-                    // match fail
-                    String hint = EnumMatcher.suggest(strObject, (Class<? extends Enum<?>>) targetClazz);
-                    throw OkaeriConfigException.builder()
-                        .message("Cannot resolve")
-                        .path(serdesContext.getPath())
-                        .expectedType(target)
-                        .actualValue(strObject)
-                        .configurer(this)
-                        .configContext(serdesContext.getConfigContext())
-                        .cause(new IllegalArgumentException(hint))
-                        .build();
-                }
-                if (source.isEnum() && (targetClazz == String.class)) {
-                    Method enumMethod = objectClazz.getMethod("name");
-                    return targetClazz.cast(enumMethod.invoke(object));
-                }
-            } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException exception) {
-                throw new OkaeriException("failed to resolve enum " + object.getClass() + " <> " + targetClazz, exception);
+            if ((object instanceof String) && target.isEnum()) {
+                T enumValue = this.resolveEnum((String) object, targetClazz, target, serdesContext);
+                this.cacheRoute(routable, objectClazz, target, ConversionRoutes.Route.of(ConversionRoutes.Kind.ENUM_FROM_STRING));
+                return enumValue;
+            }
+            if (source.isEnum() && (targetClazz == String.class)) {
+                T enumName = this.resolveEnumName(object, targetClazz);
+                this.cacheRoute(routable, objectClazz, target, ConversionRoutes.Route.of(ConversionRoutes.Kind.ENUM_TO_STRING));
+                return enumName;
             }
 
             // wrapper/primitive compatibility (Integer <-> int) - just cast, auto-boxing handles the rest
             if (GenericsDeclaration.doBoxTypesMatch(workingClazz, objectClazz)) {
+                this.cacheRoute(routable, objectClazz, target, ConversionRoutes.Route.of(ConversionRoutes.Kind.BOXING));
                 return workingClazz.cast(object);
             }
 
             // transform primitives/primitive wrappers through String (int -> long, Integer -> Long)
             if ((GenericsDeclaration.of(objectClazz).isPrimitiveWrapper() || objectClazz.isPrimitive())
                 && (GenericsDeclaration.of(workingClazz).isPrimitiveWrapper() || workingClazz.isPrimitive())) {
-                Object simplified = this.simplify(object, GenericsDeclaration.of(objectClazz), serdesContext, false);
-                try {
-                    return this.resolveType(simplified, GenericsDeclaration.of(simplified), targetClazz, GenericsDeclaration.of(targetClazz), serdesContext);
-                } catch (OkaeriConfigException e) {
-                    // Re-wrap with the original value (not the intermediate String)
-                    throw OkaeriConfigException.builder()
-                        .message("Cannot transform")
-                        .path(e.getPath())
-                        .expectedType(e.getExpectedType())
-                        .actualValue(object) // Use original value, not simplified
-                        .configurer(this)
-                        .configContext(serdesContext.getConfigContext())
-                        .errorCode(e.getErrorCode())
-                        .cause(e.getCause())
-                        .build();
+                // direct numeric conversion if the result is the same as with the standard transformers
+                if ((object instanceof Number) && this.isStandardNumericTarget(target)) {
+                    Number converted = Numbers.convert((Number) object, workingClazz);
+                    if (converted != null) {
+                        this.cacheRoute(routable, objectClazz, target, ConversionRoutes.Route.of(ConversionRoutes.Kind.NUMERIC));
+                        return workingClazz.cast(converted);
+                    }
                 }
+                T converted = this.resolvePrimitiveThroughString(object, targetClazz, serdesContext);
+                this.cacheRoute(routable, objectClazz, target, ConversionRoutes.Route.of(ConversionRoutes.Kind.PRIMITIVE_THROUGH_STRING));
+                return converted;
             }
 
             // in conservative mode some values may change their type unexpected, e.g. '10' becomes 10
             // this safeguard searches possible two step conversions and performs them if available
-            List<ObjectTransformer> transformersFrom = this.getRegistry().getTransformersFrom(source);
-            for (ObjectTransformer stepOneTransformer : transformersFrom) {
-
-                // get step one target and search for starting from this type
-                GenericsDeclaration stepOneTarget = stepOneTransformer.getPair().getTo();
-                ObjectTransformer stepTwoTransformer = this.getRegistry().getTransformer(stepOneTarget, target);
-
+            List<ObjectTransformer> route = this.getRegistry().getTransformerRoute(source, target);
+            if (route.size() == 2) {
                 // found it! convert
-                if (stepTwoTransformer != null) {
-                    try {
-                        Object transformed = stepOneTransformer.transform(object, serdesContext);
-                        try {
-                            Object doubleTransformed = stepTwoTransformer.transform(transformed, serdesContext);
-                            return workingClazz.cast(doubleTransformed);
-                        } catch (OkaeriConfigException e) {
-                            throw e;
-                        } catch (Exception e) {
-                            throw OkaeriConfigException.builder()
-                                .message("Cannot transform")
-                                .path(serdesContext.getPath())
-                                .expectedType(target)
-                                .actualValue(object)
-                                .configurer(this)
-                                .configContext(serdesContext.getConfigContext())
-                                .errorCode(stepTwoTransformer.getOriginalClass())
-                                .cause(e)
-                                .build();
-                        }
-                    } catch (OkaeriConfigException e) {
-                        throw e;
-                    } catch (Exception e) {
-                        throw OkaeriConfigException.builder()
-                            .message("Cannot transform")
-                            .path(serdesContext.getPath())
-                            .expectedType(target)
-                            .actualValue(object)
-                            .configurer(this)
-                            .configContext(serdesContext.getConfigContext())
-                            .errorCode(stepOneTransformer.getOriginalClass())
-                            .cause(e)
-                            .build();
-                    }
-                }
+                T converted = this.applyTwoStepRoute(route, object, target, workingClazz, serdesContext);
+                this.cacheRoute(routable, objectClazz, target, ConversionRoutes.Route.twoStep(route));
+                return converted;
             }
 
             // attempt serializable construction
@@ -541,22 +515,22 @@ public abstract class Configurer {
                     GenericsDeclaration.of(Map.class, Arrays.asList(String.class, Object.class)), serdesContext
                 );
 
-                for (FieldDeclaration field : declaration.getFields()) {
+                for (FieldDeclaration field : declaration.getTemplateFields()) {
 
                     Object serializedValue = serializableMap.get(field.getName());
                     if (serializedValue == null) {
                         continue;
                     }
 
-                    SerdesContext fieldContext = serdesContext.withProperty(field.getName()).withField(field);
+                    SerdesContext fieldContext = serdesContext.withProperty(field.getName()).withField(declaration.bind(field));
                     Object deserializedValue = this.resolveType(
                         serializedValue, GenericsDeclaration.of(serializedValue),
                         field.getType().getType(), field.getType(), fieldContext
                     );
 
                     try {
-                        field.getField().set(serializableInstance, deserializedValue);
-                    } catch (IllegalAccessException exception) {
+                        field.getAccessor().set(serializableInstance, deserializedValue);
+                    } catch (OkaeriException exception) {
                         throw new OkaeriException("cannot set field of serializable " + field, exception);
                     }
                 }
@@ -566,7 +540,9 @@ public abstract class Configurer {
 
             // no more known options, try casting
             try {
-                return workingClazz.cast(object);
+                T cast = workingClazz.cast(object);
+                this.cacheRoute(routable, objectClazz, target, ConversionRoutes.Route.of(ConversionRoutes.Kind.IDENTITY));
+                return cast;
             }
             // failed casting, explicit error
             catch (ClassCastException exception) {
@@ -589,6 +565,43 @@ public abstract class Configurer {
         }
 
         // transformer - work with wrapper, auto-unboxing handles primitive conversion
+        T transformed = this.applyTransformer(transformer, object, target, workingClazz, serdesContext);
+        this.cacheRoute(routable, object.getClass(), target, ConversionRoutes.Route.transform(transformer));
+        return transformed;
+    }
+
+    private <T> T resolveRoute(ConversionRoutes.Route route, Object object, Class<T> targetClazz, Class<T> workingClazz, GenericsDeclaration target, SerdesContext serdesContext) {
+        switch (route.getKind()) {
+            case IDENTITY:
+            case BOXING:
+                return workingClazz.cast(object);
+            case TRANSFORMER:
+                return this.applyTransformer(route.getTransformers().get(0), object, target, workingClazz, serdesContext);
+            case TWO_STEP:
+                return this.applyTwoStepRoute(route.getTransformers(), object, target, workingClazz, serdesContext);
+            case ENUM_FROM_STRING:
+                return this.resolveEnum((String) object, targetClazz, target, serdesContext);
+            case ENUM_TO_STRING:
+                return this.resolveEnumName(object, targetClazz);
+            case NUMERIC:
+                Number converted = Numbers.convert((Number) object, workingClazz);
+                return (converted == null)
+                    ? this.resolvePrimitiveThroughString(object, targetClazz, serdesContext)
+                    : workingClazz.cast(converted);
+            case PRIMITIVE_THROUGH_STRING:
+                return this.resolvePrimitiveThroughString(object, targetClazz, serdesContext);
+            default:
+                throw new IllegalArgumentException("unknown route: " + route.getKind());
+        }
+    }
+
+    private void cacheRoute(boolean routable, Class<?> from, GenericsDeclaration to, ConversionRoutes.Route route) {
+        if (routable) {
+            this.conversionRoutes.put(this.registry, from, to, route);
+        }
+    }
+
+    private <T> T applyTransformer(ObjectTransformer transformer, Object object, GenericsDeclaration target, Class<T> workingClazz, SerdesContext serdesContext) {
         try {
             return workingClazz.cast(transformer.transform(object, serdesContext));
         } catch (OkaeriConfigException e) {
@@ -607,6 +620,95 @@ public abstract class Configurer {
         }
     }
 
+    private <T> T applyTwoStepRoute(List<ObjectTransformer> route, Object object, GenericsDeclaration target, Class<T> workingClazz, SerdesContext serdesContext) {
+
+        ObjectTransformer stepOneTransformer = route.get(0);
+        ObjectTransformer stepTwoTransformer = route.get(1);
+        try {
+            Object transformed = stepOneTransformer.transform(object, serdesContext);
+            try {
+                Object doubleTransformed = stepTwoTransformer.transform(transformed, serdesContext);
+                return workingClazz.cast(doubleTransformed);
+            } catch (OkaeriConfigException e) {
+                throw e;
+            } catch (Exception e) {
+                throw OkaeriConfigException.builder()
+                    .message("Cannot transform")
+                    .path(serdesContext.getPath())
+                    .expectedType(target)
+                    .actualValue(object)
+                    .configurer(this)
+                    .configContext(serdesContext.getConfigContext())
+                    .errorCode(stepTwoTransformer.getOriginalClass())
+                    .cause(e)
+                    .build();
+            }
+        } catch (OkaeriConfigException e) {
+            throw e;
+        } catch (Exception e) {
+            throw OkaeriConfigException.builder()
+                .message("Cannot transform")
+                .path(serdesContext.getPath())
+                .expectedType(target)
+                .actualValue(object)
+                .configurer(this)
+                .configContext(serdesContext.getConfigContext())
+                .errorCode(stepOneTransformer.getOriginalClass())
+                .cause(e)
+                .build();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T resolveEnum(String strObject, Class<T> targetClazz, GenericsDeclaration target, SerdesContext serdesContext) {
+
+        // 1:1 match ONE=ONE, then first case-insensitive
+        Enum<?> enumValue = EnumTable.of(targetClazz).resolve(strObject);
+        if (enumValue != null) {
+            return targetClazz.cast(enumValue);
+        }
+
+        // match fail
+        String hint = EnumMatcher.suggest(strObject, (Class<? extends Enum<?>>) targetClazz);
+        throw OkaeriConfigException.builder()
+            .message("Cannot resolve")
+            .path(serdesContext.getPath())
+            .expectedType(target)
+            .actualValue(strObject)
+            .configurer(this)
+            .configContext(serdesContext.getConfigContext())
+            .cause(new IllegalArgumentException(hint))
+            .build();
+    }
+
+    private <T> T resolveEnumName(Object object, Class<T> targetClazz) {
+        return targetClazz.cast(((Enum<?>) object).name());
+    }
+
+    private boolean isStandardNumericTarget(GenericsDeclaration target) {
+        ObjectTransformer transformer = this.registry.getTransformer(GenericsDeclaration.of(String.class), target);
+        return (transformer != null) && (transformer.getClass().getPackage() == StandardSerdes.class.getPackage());
+    }
+
+    private <T> T resolvePrimitiveThroughString(Object object, Class<T> targetClazz, SerdesContext serdesContext) {
+        Object simplified = this.simplify(object, GenericsDeclaration.of(object.getClass()), serdesContext, false);
+        try {
+            return this.resolveType(simplified, GenericsDeclaration.of(simplified), targetClazz, GenericsDeclaration.of(targetClazz), serdesContext);
+        } catch (OkaeriConfigException e) {
+            // Re-wrap with the original value (not the intermediate String)
+            throw OkaeriConfigException.builder()
+                .message("Cannot transform")
+                .path(e.getPath())
+                .expectedType(e.getExpectedType())
+                .actualValue(object) // Use original value, not simplified
+                .configurer(this)
+                .configContext(serdesContext.getConfigContext())
+                .errorCode(e.getErrorCode())
+                .cause(e.getCause())
+                .build();
+        }
+    }
+
     @SuppressWarnings("unchecked")
     public Class<?> resolveTargetBaseType(@NonNull SerdesContext serdesContext, @NonNull GenericsDeclaration target, @NonNull GenericsDeclaration source) {
 
@@ -633,6 +735,28 @@ public abstract class Configurer {
         return targetType;
     }
 
+    /**
+     * Creates a collection or map instance through the {@link #getCollectionFactory() collection factory},
+     * falling back to {@link #createInstance(Class)} for types not handled by the factory.
+     *
+     * @param clazz       the collection or map type
+     * @param declaration the target declaration including element types
+     * @param source      the source collection or map, its values are going to be resolved and added
+     * @return new empty instance
+     * @throws OkaeriException if the instance cannot be created
+     */
+    public Object createInstance(@NonNull Class<?> clazz, @NonNull GenericsDeclaration declaration, @NonNull Object source) throws OkaeriException {
+
+        Object instance = null;
+        if (Collection.class.isAssignableFrom(clazz) && (source instanceof Collection)) {
+            instance = this.collectionFactory.createCollection(clazz, declaration, (Collection<?>) source);
+        } else if (Map.class.isAssignableFrom(clazz) && (source instanceof Map)) {
+            instance = this.collectionFactory.createMap(clazz, declaration, (Map<?, ?>) source);
+        }
+
+        return (instance == null) ? this.createInstance(clazz) : instance;
+    }
+
     public Object createInstance(@NonNull Class<?> clazz) throws OkaeriException {
         try {
             if (Collection.class.isAssignableFrom(clazz)) {
@@ -0,0 +1,173 @@
+package eu.okaeri.configs.configurer;
+
+import eu.okaeri.configs.schema.GenericsDeclaration;
+import eu.okaeri.configs.serdes.ObjectTransformer;
+import eu.okaeri.configs.serdes.SerdesRegistry;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of conversion routes used by {@link Configurer#resolveType}
+ * for values without a per-field plan (orphans, {@code Object} fields, raw views).
+ * <p>
+ * Routes are keyed by the runtime source class and the target declaration and
+ * remember which branch of the resolution succeeded, so repeated conversions
+ * of the same shape skip the transformer, enum and boxing lookups. Entries are
+ * dropped when the registry changes or when the cache grows past its bound.
+ */
+public class ConversionRoutes {
+
+    public static final int DEFAULT_MAX_SIZE = 4096;
+
+    private final int maxSize;
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile State state = new State(null, -1);
+
+    public ConversionRoutes() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public ConversionRoutes(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return number of lookups answered by a cached route
+     */
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * @return number of lookups without a cached route
+     */
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * @return number of currently cached routes
+     */
+    public int size() {
+        return this.size.get();
+    }
+
+    public void clear() {
+        this.state = new State(null, -1);
+        this.size.set(0);
+    }
+
+    Route get(@NonNull SerdesRegistry registry, @NonNull Class<?> from, @NonNull GenericsDeclaration to) {
+        Map<GenericsDeclaration, Route> routes = this.current(registry).routes.get(from);
+        Route route = (routes == null) ? null : routes.get(to);
+        if (route == null) {
+            this.misses.increment();
+        } else {
+            this.hits.increment();
+        }
+        return route;
+    }
+
+    void put(@NonNull SerdesRegistry registry, @NonNull Class<?> from, @NonNull GenericsDeclaration to, @NonNull Route route) {
+        if (this.size.get() >= this.maxSize) {
+            this.clear();
+        }
+        Route previous = this.current(registry).routes
+            .computeIfAbsent(from, key -> new ConcurrentHashMap<>())
+            .put(to, route);
+        if (previous == null) {
+            this.size.incrementAndGet();
+        }
+    }
+
+    private State current(SerdesRegistry registry) {
+        State state = this.state;
+        long version = registry.getVersion();
+        if ((state.registry == registry) && (state.version == version)) {
+            return state;
+        }
+        synchronized (this) {
+            state = this.state;
+            if ((state.registry != registry) || (state.version != version)) {
+                state = new State(registry, version);
+                this.state = state;
+                this.size.set(0);
+            }
+            return state;
+        }
+    }
+
+    enum Kind {
+        IDENTITY,
+        TRANSFORMER,
+        TWO_STEP,
+        ENUM_FROM_STRING,
+        ENUM_TO_STRING,
+        BOXING,
+        NUMERIC,
+        PRIMITIVE_THROUGH_STRING
+    }
+
+    @Getter(AccessLevel.PACKAGE)
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    static final class Route {
+
+        private static final Route IDENTITY = new Route(Kind.IDENTITY, Collections.emptyList());
+        private static final Route ENUM_FROM_STRING = new Route(Kind.ENUM_FROM_STRING, Collections.emptyList());
+        private static final Route ENUM_TO_STRING = new Route(Kind.ENUM_TO_STRING, Collections.emptyList());
+        private static final Route BOXING = new Route(Kind.BOXING, Collections.emptyList());
+        private static final Route NUMERIC = new Route(Kind.NUMERIC, Collections.emptyList());
+        private static final Route PRIMITIVE_THROUGH_STRING = new Route(Kind.PRIMITIVE_THROUGH_STRING, Collections.emptyList());
+
+        private final Kind kind;
+        private final List<ObjectTransformer> transformers;
+
+        static Route of(@NonNull Kind kind) {
+            switch (kind) {
+                case IDENTITY:
+                    return IDENTITY;
+                case ENUM_FROM_STRING:
+                    return ENUM_FROM_STRING;
+                case ENUM_TO_STRING:
+                    return ENUM_TO_STRING;
+                case BOXING:
+                    return BOXING;
+                case NUMERIC:
+                    return NUMERIC;
+                case PRIMITIVE_THROUGH_STRING:
+                    return PRIMITIVE_THROUGH_STRING;
+                default:
+                    throw new IllegalArgumentException("route " + kind + " requires transformers");
+            }
+        }
+
+        static Route transform(@NonNull ObjectTransformer transformer) {
+            return new Route(Kind.TRANSFORMER, Collections.singletonList(transformer));
+        }
+
+        static Route twoStep(@NonNull List<ObjectTransformer> route) {
+            return new Route(Kind.TWO_STEP, route);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class State {
+        private final SerdesRegistry registry;
+        private final long version;
+        private final Map<Class<?>, Map<GenericsDeclaration, Route>> routes = new ConcurrentHashMap<>();
+    }
+}
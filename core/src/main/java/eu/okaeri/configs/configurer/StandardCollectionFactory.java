@@ -0,0 +1,111 @@
+package eu.okaeri.configs.configurer;
+
+import eu.okaeri.configs.schema.GenericsDeclaration;
+import lombok.NonNull;
+
+import java.util.*;
+
+/**
+ * Default {@link CollectionFactory}.
+ * <p>
+ * Interface types resolve to insertion-ordered implementations ({@code List} to {@link ArrayList},
+ * {@code Set} to {@link LinkedHashSet}, {@code Map} to {@link LinkedHashMap}), so saved files keep
+ * the order of the loaded ones. Common JDK implementations are presized to the size of the source,
+ * other types are left to reflective instantiation.
+ * <p>
+ * {@link #ENUM_CONTAINERS} additionally resolves {@code Set} and {@code Map} with enum elements/keys
+ * to {@link EnumSet} and {@link EnumMap}. These iterate (and are saved) in declaration order instead
+ * of the order of the source, sources with null elements or keys still use the insertion-ordered
+ * implementations.
+ */
+public class StandardCollectionFactory implements CollectionFactory {
+
+    public static final StandardCollectionFactory INSTANCE = new StandardCollectionFactory();
+    public static final StandardCollectionFactory ENUM_CONTAINERS = new StandardCollectionFactory(true);
+
+    private final boolean enumContainers;
+
+    public StandardCollectionFactory() {
+        this(false);
+    }
+
+    /**
+     * @param enumContainers whether to use {@link EnumSet} and {@link EnumMap} for enum elements/keys
+     */
+    public StandardCollectionFactory(boolean enumContainers) {
+        this.enumContainers = enumContainers;
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Collection<Object> createCollection(@NonNull Class<?> type, @NonNull GenericsDeclaration declaration, @NonNull Collection<?> source) {
+
+        if (type == Set.class) {
+            Class<?> elementType = this.enumContainers ? subtypeOf(declaration, 0) : null;
+            if ((elementType != null) && elementType.isEnum() && !containsNull(source)) {
+                return (Collection<Object>) (Collection) EnumSet.noneOf((Class<Enum>) elementType);
+            }
+            return new LinkedHashSet<>(hashCapacity(source.size()));
+        }
+
+        if ((type == List.class) || (type == ArrayList.class)) {
+            return new ArrayList<>(source.size());
+        }
+
+        if (type == LinkedHashSet.class) {
+            return new LinkedHashSet<>(hashCapacity(source.size()));
+        }
+
+        if (type == HashSet.class) {
+            return new HashSet<>(hashCapacity(source.size()));
+        }
+
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Map<Object, Object> createMap(@NonNull Class<?> type, @NonNull GenericsDeclaration declaration, @NonNull Map<?, ?> source) {
+
+        if (type == Map.class) {
+            Class<?> keyType = this.enumContainers ? subtypeOf(declaration, 0) : null;
+            if ((keyType != null) && keyType.isEnum() && !containsNull(source.keySet())) {
+                return (Map<Object, Object>) (Map) new EnumMap<>((Class<Enum>) keyType);
+            }
+            return new LinkedHashMap<>(hashCapacity(source.size()));
+        }
+
+        if (type == LinkedHashMap.class) {
+            return new LinkedHashMap<>(hashCapacity(source.size()));
+        }
+
+        if (type == HashMap.class) {
+            return new HashMap<>(hashCapacity(source.size()));
+        }
+
+        return null;
+    }
+
+    private static Class<?> subtypeOf(GenericsDeclaration declaration, int index) {
+        GenericsDeclaration subtype = declaration.getSubtypeAtOrNull(index);
+        return (subtype == null) ? null : subtype.getType();
+    }
+
+    // iterated instead of contains(null), which throws for some collections (e.g. Set.of, TreeSet)
+    private static boolean containsNull(Collection<?> source) {
+        for (Object element : source) {
+            if (element == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // capacity that fits expectedSize entries without rehashing at the default load factor
+    private static int hashCapacity(int expectedSize) {
+        if (expectedSize < 3) {
+            return expectedSize + 1;
+        }
+        return (int) ((expectedSize / 0.75f) + 1.0f);
+    }
+}
@@ -5,13 +5,26 @@ import eu.okaeri.configs.annotation.Header;
 import eu.okaeri.configs.annotation.Headers;
 import eu.okaeri.configs.annotation.Names;
 import eu.okaeri.configs.annotation.Include;
-import lombok.Data;
-import lombok.NonNull;
+import lombok.*;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+/**
+ * Declaration of config fields.
+ * <p>
+ * The class-level shape (fields, names, types, comments, includes) is compiled once
+ * per class into a template. Declarations obtained for instances only reference that
+ * template and keep per-instance state (bound object, starting values, variable hide
+ * flags) in arrays indexed by field slot, so retained memory per instance (e.g. for
+ * large collections of subconfigs) is proportional to the number of its values.
+ * <p>
+ * Field declarations returned for them by {@link #getField(String)}, {@link #getFields()}
+ * and {@link #getFieldMap()} are views writing through to these arrays, created on each
+ * call and not kept by the declaration. Internal loops iterate {@link #getTemplateFields()}
+ * instead and access the values with the per-field methods of the declaration.
+ */
 @Data
 public class ConfigDeclaration {
 
@@ -23,27 +36,96 @@ public class ConfigDeclaration {
     private boolean real;
     private Class<?> type;
 
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private ConfigDeclaration template;
+
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.PACKAGE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Object object;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Object[] startingValues;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private boolean[] variableHide;
+
     public static ConfigDeclaration of(@NonNull Class<?> clazz, OkaeriConfig config) {
         return of(clazz, (Object) config);
     }
 
     public static ConfigDeclaration of(@NonNull Class<?> clazz, Object object) {
 
-        ConfigDeclaration template = DECLARATION_CACHE.computeIfAbsent(clazz, (klass) -> {
-            ConfigDeclaration declaration = new ConfigDeclaration();
-            declaration.setNameStrategy(readNames(klass));
-            declaration.setHeader(readHeader(klass));
-            declaration.setReal(OkaeriConfig.class.isAssignableFrom(klass));
-            declaration.setType(klass);
-            return declaration;
-        });
+        // class-level shape (fields, names, types, comments, includes) is compiled once,
+        // instances only bind their object and capture starting values into slot arrays
+        ConfigDeclaration template = DECLARATION_CACHE.computeIfAbsent(clazz, ConfigDeclaration::template);
 
         ConfigDeclaration declaration = new ConfigDeclaration();
         declaration.setNameStrategy(template.getNameStrategy());
         declaration.setHeader(template.getHeader());
         declaration.setReal(template.isReal());
         declaration.setType(template.getType());
-        declaration.setFieldMap(readFields(clazz, declaration, object));
+        declaration.template = template;
+        declaration.object = object;
+
+        // starting values array is allocated only when there is a non-null value
+        if (object != null) {
+            for (FieldDeclaration field : template.getFields()) {
+                declaration.setStartingValue(field.getSlot(), field.getAccessor().get(object));
+            }
+        }
+
+        return declaration;
+    }
+
+    public static ConfigDeclaration of(@NonNull OkaeriConfig config) {
+        return of(config.getClass(), config);
+    }
+
+    public static ConfigDeclaration of(@NonNull Object object) {
+        return of(object.getClass(), object);
+    }
+
+    public static ConfigDeclaration of(@NonNull Class<?> clazz) {
+        return of(clazz, null);
+    }
+
+    private static ConfigDeclaration template(@NonNull Class<?> clazz) {
+
+        ConfigDeclaration template = compile(clazz);
+
+        int slot = 0;
+        for (FieldDeclaration field : template.getFields()) {
+            field.setSlot(slot++);
+        }
+
+        return template;
+    }
+
+    private static ConfigDeclaration compile(@NonNull Class<?> clazz) {
+
+        // prefer declaration generated at compile time (okaeri-configs-apt)
+        ConfigDeclaration generated = GeneratedDeclaration.load(clazz);
+        if (generated != null) {
+            return generated;
+        }
+
+        ConfigDeclaration declaration = new ConfigDeclaration();
+        declaration.setNameStrategy(readNames(clazz));
+        declaration.setHeader(readHeader(clazz));
+        declaration.setReal(OkaeriConfig.class.isAssignableFrom(clazz));
+        declaration.setType(clazz);
+        declaration.setFieldMap(readFields(clazz, declaration));
 
         Include[] subs = clazz.getDeclaredAnnotationsByType(Include.class);
         for (Include sub : subs) {
@@ -53,7 +135,7 @@ public class ConfigDeclaration {
                     "Cannot include fields from " + sub.value().getName() + " because it is not a superclass of " + clazz.getName()
                 );
             }
-            Map<String, FieldDeclaration> subFields = readFields(sub.value(), declaration, object);
+            Map<String, FieldDeclaration> subFields = readFields(sub.value(), declaration);
             subFields.forEach((key, value) -> {
                 if (declaration.getFieldMap().containsKey(key)) {
                     return;
@@ -65,18 +147,6 @@ public class ConfigDeclaration {
         return declaration;
     }
 
-    public static ConfigDeclaration of(@NonNull OkaeriConfig config) {
-        return of(config.getClass(), config);
-    }
-
-    public static ConfigDeclaration of(@NonNull Object object) {
-        return of(object.getClass(), object);
-    }
-
-    public static ConfigDeclaration of(@NonNull Class<?> clazz) {
-        return of(clazz, null);
-    }
-
     private static String[] readHeader(@NonNull Class<?> clazz) {
 
         Headers headers = clazz.getAnnotation(Headers.class);
@@ -108,10 +178,10 @@ public class ConfigDeclaration {
         return names;
     }
 
-    private static LinkedHashMap<String, FieldDeclaration> readFields(@NonNull Class<?> clazz, @NonNull ConfigDeclaration declaration, Object object) {
+    private static LinkedHashMap<String, FieldDeclaration> readFields(@NonNull Class<?> clazz, @NonNull ConfigDeclaration declaration) {
         return Arrays.stream(clazz.getDeclaredFields())
             .filter(field -> !field.getName().startsWith("this$"))
-            .map(field -> FieldDeclaration.of(declaration, field, object))
+            .map(field -> FieldDeclaration.template(declaration, field))
             .filter(Objects::nonNull)
             .collect(Collectors.toMap(
                 FieldDeclaration::getName,
@@ -123,22 +193,158 @@ public class ConfigDeclaration {
             ));
     }
 
+    /**
+     * Sets fields of a declaration that is not bound to a class template (e.g. created manually).
+     *
+     * @param fieldMap fields by name
+     * @throws UnsupportedOperationException if the declaration is bound to a class template,
+     *                                       as its fields are shared by all declarations of the class
+     */
+    public void setFieldMap(Map<String, FieldDeclaration> fieldMap) {
+        if (this.template != null) {
+            throw new UnsupportedOperationException("cannot replace fields of a declaration bound to the template of " + this.type.getName());
+        }
+        this.fieldMap = fieldMap;
+    }
+
+    public Map<String, FieldDeclaration> getFieldMap() {
+
+        if (this.template == null) {
+            return this.fieldMap;
+        }
+
+        Map<String, FieldDeclaration> views = new LinkedHashMap<>(this.template.fieldMap.size() * 2);
+        for (FieldDeclaration field : this.template.fieldMap.values()) {
+            views.put(field.getName(), field.view(this));
+        }
+
+        return Collections.unmodifiableMap(views);
+    }
+
     public Optional<FieldDeclaration> getField(@NonNull String key) {
-        return Optional.ofNullable(this.fieldMap.get(key));
+        return this.getTemplateField(key).map(this::bind);
     }
 
     public GenericsDeclaration getGenericsOrNull(@NonNull String key) {
-        return this.getField(key)
+        return this.getTemplateField(key)
             .map(FieldDeclaration::getType)
             .orElse(null);
     }
 
     public Collection<FieldDeclaration> getFields() {
-        return this.fieldMap.values();
+        return this.getFieldMap().values();
     }
 
     public Set<String> getFieldNames() {
-        return this.fieldMap.keySet();
+        return (this.template == null) ? this.fieldMap.keySet() : Collections.unmodifiableSet(this.template.fieldMap.keySet());
+    }
+
+    /**
+     * Gets fields of the class template, shared by all declarations of the class. Unlike
+     * {@link #getFields()} no views are created, values of this declaration are accessed with
+     * {@link #getValue(FieldDeclaration)} and the other per-field methods. Returned fields
+     * must not be modified.
+     *
+     * @return template fields in declaration order
+     */
+    public Collection<FieldDeclaration> getTemplateFields() {
+        return Collections.unmodifiableCollection((this.template == null) ? this.fieldMap.values() : this.template.fieldMap.values());
+    }
+
+    /**
+     * @param key field name
+     * @return template field with the given name, see {@link #getTemplateFields()}
+     */
+    public Optional<FieldDeclaration> getTemplateField(@NonNull String key) {
+        return Optional.ofNullable(((this.template == null) ? this.fieldMap : this.template.fieldMap).get(key));
+    }
+
+    /**
+     * @param field template field of this declaration
+     * @return field declaration bound to this declaration (a new view), e.g. to be passed to serdes
+     */
+    public FieldDeclaration bind(@NonNull FieldDeclaration field) {
+        return (this.template == null) ? field : field.view(this);
+    }
+
+    /**
+     * Gets value of the field for this declaration, the starting value if the field is variable hidden.
+     *
+     * @param field template field of this declaration
+     * @return current value
+     * @see FieldDeclaration#getValue()
+     */
+    public Object getValue(@NonNull FieldDeclaration field) {
+        if (this.template == null) {
+            return field.getValue();
+        }
+        int slot = field.getSlot();
+        return this.isVariableHide(slot) ? this.getStartingValue(slot) : field.getAccessor().get(this.object);
+    }
+
+    /**
+     * @param field template field of this declaration
+     * @param value new value of the field
+     * @see FieldDeclaration#updateValue(Object)
+     */
+    public void updateValue(@NonNull FieldDeclaration field, Object value) {
+        if (this.template == null) {
+            field.updateValue(value);
+            return;
+        }
+        field.updateValue(this.object, value);
+    }
+
+    public Object getStartingValue(@NonNull FieldDeclaration field) {
+        return (this.template == null) ? field.getStartingValue() : this.getStartingValue(field.getSlot());
+    }
+
+    public void setStartingValue(@NonNull FieldDeclaration field, Object value) {
+        if (this.template == null) {
+            field.setStartingValue(value);
+            return;
+        }
+        this.setStartingValue(field.getSlot(), value);
+    }
+
+    public boolean isVariableHide(@NonNull FieldDeclaration field) {
+        return (this.template == null) ? field.isVariableHide() : this.isVariableHide(field.getSlot());
+    }
+
+    public void setVariableHide(@NonNull FieldDeclaration field, boolean value) {
+        if (this.template == null) {
+            field.setVariableHide(value);
+            return;
+        }
+        this.setVariableHide(field.getSlot(), value);
+    }
+
+    Object getStartingValue(int slot) {
+        return (this.startingValues == null) ? null : this.startingValues[slot];
+    }
+
+    void setStartingValue(int slot, Object value) {
+        if (this.startingValues == null) {
+            if (value == null) {
+                return;
+            }
+            this.startingValues = new Object[this.template.fieldMap.size()];
+        }
+        this.startingValues[slot] = value;
+    }
+
+    boolean isVariableHide(int slot) {
+        return (this.variableHide != null) && this.variableHide[slot];
+    }
+
+    void setVariableHide(int slot, boolean value) {
+        if (this.variableHide == null) {
+            if (!value) {
+                return;
+            }
+            this.variableHide = new boolean[this.template.fieldMap.size()];
+        }
+        this.variableHide[slot] = value;
     }
 
     /**
@@ -0,0 +1,106 @@
+package eu.okaeri.configs.schema;
+
+import lombok.NonNull;
+
+import java.lang.reflect.Field;
+
+/**
+ * Resolved read/write access to a single declared field.
+ * <p>
+ * Accessors are created once per field template (see {@link FieldDeclaration})
+ * and shared by all instances bound to it, so access checks and handle lookup
+ * are not repeated for every get/set.
+ * <p>
+ * Primitive-specialized methods allow reading and writing primitive fields
+ * without boxing. Default implementations fall back to the boxed variants.
+ */
+public interface FieldAccessor {
+
+    /**
+     * Creates the best available accessor for the field.
+     * <p>
+     * Uses unreflected {@link java.lang.invoke.MethodHandle}s when possible,
+     * falling back to plain reflection when handles cannot be created.
+     * The field is expected to be already made accessible.
+     *
+     * @param field the field to access
+     * @return resolved accessor
+     */
+    static FieldAccessor of(@NonNull Field field) {
+        try {
+            return new MethodHandleFieldAccessor(field);
+        } catch (IllegalAccessException exception) {
+            return new ReflectionFieldAccessor(field);
+        }
+    }
+
+    Field getField();
+
+    Object get(Object target);
+
+    void set(Object target, Object value);
+
+    default boolean getBoolean(Object target) {
+        return (Boolean) this.get(target);
+    }
+
+    default byte getByte(Object target) {
+        return (Byte) this.get(target);
+    }
+
+    default char getChar(Object target) {
+        return (Character) this.get(target);
+    }
+
+    default short getShort(Object target) {
+        return (Short) this.get(target);
+    }
+
+    default int getInt(Object target) {
+        return (Integer) this.get(target);
+    }
+
+    default long getLong(Object target) {
+        return (Long) this.get(target);
+    }
+
+    default float getFloat(Object target) {
+        return (Float) this.get(target);
+    }
+
+    default double getDouble(Object target) {
+        return (Double) this.get(target);
+    }
+
+    default void setBoolean(Object target, boolean value) {
+        this.set(target, value);
+    }
+
+    default void setByte(Object target, byte value) {
+        this.set(target, value);
+    }
+
+    default void setChar(Object target, char value) {
+        this.set(target, value);
+    }
+
+    default void setShort(Object target, short value) {
+        this.set(target, value);
+    }
+
+    default void setInt(Object target, int value) {
+        this.set(target, value);
+    }
+
+    default void setLong(Object target, long value) {
+        this.set(target, value);
+    }
+
+    default void setFloat(Object target, float value) {
+        this.set(target, value);
+    }
+
+    default void setDouble(Object target, double value) {
+        this.set(target, value);
+    }
+}
@@ -4,13 +4,8 @@ import eu.okaeri.configs.annotation.*;
 import eu.okaeri.configs.configurer.Configurer;
 import eu.okaeri.configs.exception.OkaeriException;
 import eu.okaeri.configs.serdes.ObjectSerializer;
-import eu.okaeri.configs.serdes.SerdesAnnotationResolver;
-import eu.okaeri.configs.serdes.SerdesContextAttachment;
 import eu.okaeri.configs.serdes.SerdesContextAttachments;
-import lombok.Data;
-import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
+import lombok.*;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
@@ -33,14 +28,29 @@ public class FieldDeclaration {
     private Variable variable;
     private boolean variableHide;
     private Field field;
+    private FieldAccessor accessor;
+    private boolean finalField;
     private Object object;
     private ObjectSerializer<?> customSerializer;
+    private int slot;
+
+    // declarations bound through ConfigDeclaration keep instance state (object,
+    // starting value, variable hide) in the owner's slot arrays instead of own fields
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private ConfigDeclaration owner;
 
-    @SneakyThrows
     public static FieldDeclaration of(@NonNull ConfigDeclaration config, @NonNull Field field, Object object) {
+        FieldDeclaration template = template(config, field);
+        return (template == null) ? null : template.bind(object);
+    }
+
+    static FieldDeclaration template(@NonNull ConfigDeclaration config, @NonNull Field field) {
 
         CacheEntry cache = new CacheEntry(config.getType(), field.getName());
-        FieldDeclaration template = DECLARATION_CACHE.computeIfAbsent(cache, (entry) -> {
+        return DECLARATION_CACHE.computeIfAbsent(cache, (entry) -> {
 
             FieldDeclaration declaration = new FieldDeclaration();
 
@@ -89,6 +99,8 @@ public class FieldDeclaration {
             declaration.setComment(readComments(field));
             declaration.setType(GenericsDeclaration.of(field.getGenericType()));
             declaration.setField(field);
+            declaration.setAccessor(FieldAccessor.of(field));
+            declaration.setFinalField(Modifier.isFinal(field.getModifiers()));
 
             Serdes serdesAnnotation = field.getAnnotation(Serdes.class);
             if (serdesAnnotation != null) {
@@ -110,26 +122,82 @@ public class FieldDeclaration {
 
             return declaration;
         });
+    }
 
-        if (template == null) {
-            return null;
-        }
+    FieldDeclaration bind(Object object) {
 
         FieldDeclaration declaration = new FieldDeclaration();
-        Object startingValue = (object == null) ? null : template.getField().get(object);
+        Object startingValue = (object == null) ? null : this.getAccessor().get(object);
         declaration.setStartingValue(startingValue);
 
-        declaration.setName(template.getName());
-        declaration.setComment(template.getComment());
-        declaration.setType(template.getType());
-        declaration.setVariable(template.getVariable());
-        declaration.setField(template.getField());
+        declaration.setName(this.getName());
+        declaration.setComment(this.getComment());
+        declaration.setType(this.getType());
+        declaration.setVariable(this.getVariable());
+        declaration.setField(this.getField());
+        declaration.setAccessor(this.getAccessor());
+        declaration.setFinalField(this.isFinalField());
         declaration.setObject(object);
-        declaration.setCustomSerializer(template.getCustomSerializer());
+        declaration.setCustomSerializer(this.getCustomSerializer());
+        declaration.setSlot(this.getSlot());
+
+        return declaration;
+    }
+
+    FieldDeclaration view(@NonNull ConfigDeclaration owner) {
+
+        FieldDeclaration declaration = new FieldDeclaration();
+        declaration.owner = owner;
+
+        declaration.setName(this.getName());
+        declaration.setComment(this.getComment());
+        declaration.setType(this.getType());
+        declaration.setVariable(this.getVariable());
+        declaration.setField(this.getField());
+        declaration.setAccessor(this.getAccessor());
+        declaration.setFinalField(this.isFinalField());
+        declaration.setCustomSerializer(this.getCustomSerializer());
+        declaration.setSlot(this.getSlot());
 
         return declaration;
     }
 
+    public Object getStartingValue() {
+        return (this.owner == null) ? this.startingValue : this.owner.getStartingValue(this.slot);
+    }
+
+    public void setStartingValue(Object startingValue) {
+        if (this.owner == null) {
+            this.startingValue = startingValue;
+            return;
+        }
+        this.owner.setStartingValue(this.slot, startingValue);
+    }
+
+    public boolean isVariableHide() {
+        return (this.owner == null) ? this.variableHide : this.owner.isVariableHide(this.slot);
+    }
+
+    public void setVariableHide(boolean variableHide) {
+        if (this.owner == null) {
+            this.variableHide = variableHide;
+            return;
+        }
+        this.owner.setVariableHide(this.slot, variableHide);
+    }
+
+    public Object getObject() {
+        return (this.owner == null) ? this.object : this.owner.getObject();
+    }
+
+    public void setObject(Object object) {
+        if (this.owner == null) {
+            this.object = object;
+            return;
+        }
+        this.owner.setObject(object);
+    }
+
     private static String[] readComments(Field field) {
 
         Comments comments = field.getAnnotation(Comments.class);
@@ -150,16 +218,15 @@ public class FieldDeclaration {
     }
 
     public void updateValue(Object value) throws OkaeriException {
-        try {
-            if (Modifier.isFinal(this.getField().getModifiers()) && FINAL_WARNS.add(this.getField().toString())) {
-                LOGGER.warning(this.getField() + ": final fields (especially with default value) " +
-                    "may prevent loading of the data. Removal of the final modifier is strongly advised.");
-            }
-            this.getField().setAccessible(true);
-            this.getField().set(this.getObject(), value);
-        } catch (IllegalAccessException exception) {
-            throw new OkaeriException("failed to #updateValue", exception);
+        this.updateValue(this.getObject(), value);
+    }
+
+    void updateValue(Object object, Object value) throws OkaeriException {
+        if (this.isFinalField() && FINAL_WARNS.add(this.getField().toString())) {
+            LOGGER.warning(this.getField() + ": final fields (especially with default value) " +
+                "may prevent loading of the data. Removal of the final modifier is strongly advised.");
         }
+        this.getAccessor().set(object, value);
     }
 
     public Object getValue() throws OkaeriException {
@@ -168,60 +235,22 @@ public class FieldDeclaration {
             return this.getStartingValue();
         }
 
-        try {
-            this.getField().setAccessible(true);
-            return this.getField().get(this.getObject());
-        } catch (IllegalAccessException exception) {
-            throw new OkaeriException("failed to #getValue", exception);
-        }
+        return this.getAccessor().get(this.getObject());
     }
 
     public <T extends Annotation> Optional<T> getAnnotation(@NonNull Class<T> type) {
         return Optional.ofNullable(this.getField().getAnnotation(type));
     }
 
+    /**
+     * Resolves the static (annotation based) attachments of this field.
+     * The result is cached by the configurer registry and must not be modified.
+     *
+     * @param configurer the configurer providing annotation resolvers
+     * @return frozen attachments
+     */
     public SerdesContextAttachments readStaticAnnotations(@NonNull Configurer configurer) {
-        SerdesContextAttachments attachments = new SerdesContextAttachments();
-
-        // Process field-level annotations first (these take precedence)
-        for (Annotation annotation : this.getField().getAnnotations()) {
-            SerdesAnnotationResolver<Annotation, SerdesContextAttachment> annotationResolver = configurer.getRegistry().getAnnotationResolver(annotation);
-            if (annotationResolver == null) {
-                continue;
-            }
-            Optional<? extends SerdesContextAttachment> attachmentOptional = annotationResolver.resolveAttachment(this.getField(), annotation);
-            if (!attachmentOptional.isPresent()) {
-                continue;
-            }
-            SerdesContextAttachment attachment = attachmentOptional.get();
-            Class<? extends SerdesContextAttachment> attachmentType = attachment.getClass();
-            attachments.put(attachmentType, attachment);
-        }
-
-        // Fallback to class-level annotations for attachment types not found on field
-        Class<?> declaringClass = this.getField().getDeclaringClass();
-        for (Annotation classAnnotation : declaringClass.getAnnotations()) {
-            SerdesAnnotationResolver<Annotation, SerdesContextAttachment> annotationResolver = configurer.getRegistry().getAnnotationResolver(classAnnotation);
-            if (annotationResolver == null) {
-                continue;
-            }
-
-            // Try class-level resolution
-            Optional<? extends SerdesContextAttachment> classAttachmentOptional = annotationResolver.resolveClassAttachment(declaringClass, classAnnotation);
-            if (!classAttachmentOptional.isPresent()) {
-                continue;
-            }
-
-            SerdesContextAttachment classAttachment = classAttachmentOptional.get();
-            Class<? extends SerdesContextAttachment> attachmentType = classAttachment.getClass();
-
-            // Only add if field doesn't already have this attachment type (field-level wins)
-            if (!attachments.containsKey(attachmentType)) {
-                attachments.put(attachmentType, classAttachment);
-            }
-        }
-
-        return attachments;
+        return configurer.getRegistry().getAttachments(this.getField());
     }
 
     @Data
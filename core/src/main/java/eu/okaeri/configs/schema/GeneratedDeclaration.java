@@ -0,0 +1,138 @@
+package eu.okaeri.configs.schema;
+
+import eu.okaeri.configs.OkaeriConfig;
+import eu.okaeri.configs.annotation.Names;
+import eu.okaeri.configs.exception.OkaeriException;
+import eu.okaeri.configs.serdes.ObjectSerializer;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+
+/**
+ * Base class for compile-time generated config declarations (see okaeri-configs-apt).
+ * <p>
+ * Generated classes are named after the binary name of the config class with {@code $}
+ * replaced by {@code _} and {@link #SUFFIX} appended, e.g. {@code com.example.AppConfig_OkaeriDeclaration}.
+ * When present, {@link ConfigDeclaration} uses them to build the class-level template
+ * instead of scanning fields and annotations reflectively.
+ * <p>
+ * Protected helpers are meant to be used by the generated code only.
+ */
+public abstract class GeneratedDeclaration {
+
+    public static final String SUFFIX = "_OkaeriDeclaration";
+
+    /**
+     * Builds the class-level declaration template.
+     *
+     * @return declaration template with unbound fields
+     */
+    public abstract ConfigDeclaration declare();
+
+    static ConfigDeclaration load(@NonNull Class<?> clazz) {
+
+        if (!OkaeriConfig.class.isAssignableFrom(clazz)) {
+            return null;
+        }
+
+        String name = clazz.getName().replace('$', '_') + SUFFIX;
+        Class<?> generated;
+        try {
+            generated = Class.forName(name, true, clazz.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError ignored) {
+            return null;
+        }
+
+        if (!GeneratedDeclaration.class.isAssignableFrom(generated)) {
+            return null;
+        }
+
+        try {
+            return ((GeneratedDeclaration) generated.newInstance()).declare();
+        } catch (InstantiationException | IllegalAccessException exception) {
+            throw new OkaeriException("failed to create generated declaration " + name, exception);
+        }
+    }
+
+    protected static ConfigDeclaration declaration(@NonNull Class<?> type, Names nameStrategy, String[] header) {
+        ConfigDeclaration declaration = new ConfigDeclaration();
+        declaration.setNameStrategy(nameStrategy);
+        declaration.setHeader(header);
+        declaration.setReal(true);
+        declaration.setType(type);
+        declaration.setFieldMap(new LinkedHashMap<>());
+        return declaration;
+    }
+
+    protected static void add(@NonNull ConfigDeclaration declaration, FieldDeclaration field) {
+        if (field == null) {
+            return;
+        }
+        declaration.getFieldMap().put(field.getName(), field);
+    }
+
+    protected static Field lookupField(@NonNull Class<?> type, @NonNull String name) {
+        try {
+            return type.getDeclaredField(name);
+        } catch (NoSuchFieldException exception) {
+            throw new OkaeriException("generated declaration out of date: field " + name + " missing in " + type, exception);
+        }
+    }
+
+    protected static FieldDeclaration declareField(@NonNull Field field, @NonNull String name, String[] comment, @NonNull GenericsDeclaration type, @NonNull FieldAccessor accessor) {
+        FieldDeclaration declaration = new FieldDeclaration();
+        declaration.setName(name);
+        declaration.setComment(comment);
+        declaration.setType(type);
+        declaration.setField(field);
+        declaration.setAccessor(accessor);
+        declaration.setFinalField(Modifier.isFinal(field.getModifiers()));
+        return declaration;
+    }
+
+    protected static FieldDeclaration reflectField(@NonNull ConfigDeclaration declaration, @NonNull Field field) {
+        return FieldDeclaration.template(declaration, field);
+    }
+
+    protected static FieldAccessor reflectAccessor(@NonNull Field field) {
+        field.setAccessible(true);
+        return FieldAccessor.of(field);
+    }
+
+    protected static GenericsDeclaration type(@NonNull Class<?> type, Object... subtypes) {
+        return (subtypes.length == 0)
+            ? GenericsDeclaration.of(type)
+            : GenericsDeclaration.of(type, Arrays.asList(subtypes));
+    }
+
+    protected static void serdes(@NonNull FieldDeclaration declaration, @NonNull ObjectSerializer<?> serializer) {
+        Class<?> fieldType = declaration.getType().getType();
+        if (!serializer.supports(fieldType)) {
+            throw new OkaeriException("Serializer " + serializer.getClass().getName() +
+                " does not support field type " + fieldType.getName() +
+                " for field " + declaration.getField().getName());
+        }
+        declaration.setCustomSerializer(serializer);
+    }
+
+    /**
+     * Base for generated accessors using direct field access or getters/setters.
+     */
+    public abstract static class Accessor implements FieldAccessor {
+
+        @Getter private final Field field;
+
+        protected Accessor(@NonNull Field field) {
+            this.field = field;
+        }
+
+        protected IllegalArgumentException invalidValue(Object value) {
+            return new IllegalArgumentException("Can not set " + this.field.getType().getName() + " field " + this.field + " to " +
+                ((value == null) ? "null value" : value.getClass().getName()));
+        }
+    }
+}
@@ -1,18 +1,34 @@
 package eu.okaeri.configs.schema;
 
 import eu.okaeri.configs.OkaeriConfig;
-import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NonNull;
+import lombok.ToString;
 
 import java.lang.reflect.*;
 import java.util.*;
 import java.util.stream.Collectors;
 
-@Data
-@AllArgsConstructor
+/**
+ * Immutable type declaration with resolved generic subtypes.
+ * <p>
+ * Declarations of plain classes (without subtypes) are interned per class, so
+ * repeated {@code of(Class)} and {@code of(Object)} calls return the same instance
+ * and do not allocate. Hash codes are computed once and {@link #equals(Object)}
+ * uses identity and hash checks before comparing the structure.
+ */
+@Getter
+@ToString
 public class GenericsDeclaration {
 
+    private static final ClassValue<GenericsDeclaration> INTERNED = new ClassValue<GenericsDeclaration>() {
+        @Override
+        protected GenericsDeclaration computeValue(Class<?> type) {
+            return new GenericsDeclaration(type);
+        }
+    };
+
     private static final Map<String, Class<?>> PRIMITIVES = new HashMap<>();
     private static final Map<Class<?>, Class<?>> PRIMITIVE_TO_WRAPPER = new HashMap<>();
     private static final Set<Class<?>> PRIMITIVE_WRAPPERS = new HashSet<>();
@@ -44,13 +60,28 @@ public class GenericsDeclaration {
         PRIMITIVE_WRAPPERS.add(Short.class);
     }
 
-    private Class<?> type;
-    private List<GenericsDeclaration> subtype = new ArrayList<>();
-    private boolean isEnum;
+    private final Class<?> type;
+    private final List<GenericsDeclaration> subtype;
+    private final boolean isEnum;
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private final int hashCode;
 
-    private GenericsDeclaration(Class<?> type) {
+    public GenericsDeclaration(@NonNull Class<?> type, List<GenericsDeclaration> subtype, boolean isEnum) {
         this.type = type;
-        this.isEnum = type.isEnum();
+        this.subtype = ((subtype == null) || subtype.isEmpty())
+            ? Collections.emptyList()
+            : Collections.unmodifiableList(new ArrayList<>(subtype));
+        this.isEnum = isEnum;
+        this.hashCode = (31 * ((31 * type.hashCode()) + this.subtype.hashCode())) + (isEnum ? 1 : 0);
+    }
+
+    private GenericsDeclaration(Class<?> type) {
+        this(type, null, type.isEnum());
+    }
+
+    private GenericsDeclaration(Class<?> type, List<GenericsDeclaration> subtype) {
+        this(type, subtype, type.isEnum());
     }
 
     public static boolean isUnboxedCompatibleWithBoxed(@NonNull Class<?> unboxedClazz, @NonNull Class<?> boxedClazz) {
@@ -64,9 +95,10 @@ public class GenericsDeclaration {
 
     public static GenericsDeclaration of(@NonNull Object type, @NonNull List<Object> subtypes) {
         Class<?> finalType = (type instanceof Class<?>) ? (Class<?>) type : type.getClass();
-        GenericsDeclaration declaration = new GenericsDeclaration(finalType);
-        declaration.setSubtype(subtypes.stream().map(GenericsDeclaration::of).collect(Collectors.toList()));
-        return declaration;
+        if (subtypes.isEmpty()) {
+            return INTERNED.get(finalType);
+        }
+        return new GenericsDeclaration(finalType, subtypes.stream().map(GenericsDeclaration::of).collect(Collectors.toList()));
     }
 
     public static GenericsDeclaration of(Object object) {
@@ -80,21 +112,21 @@ public class GenericsDeclaration {
         }
 
         if (object instanceof Class) {
-            return new GenericsDeclaration((Class<?>) object);
+            return INTERNED.get((Class<?>) object);
         }
 
         if (object instanceof Type) {
             return from((Type) object);
         }
 
-        return new GenericsDeclaration(object.getClass());
+        return INTERNED.get(object.getClass());
     }
 
     private static GenericsDeclaration from(Type type) {
 
         // Handle Class directly
         if (type instanceof Class<?>) {
-            return new GenericsDeclaration((Class<?>) type);
+            return INTERNED.get((Class<?>) type);
         }
 
         // Handle ParameterizedType (e.g., List<String>, Map<K, V>)
@@ -104,12 +136,13 @@ public class GenericsDeclaration {
             Type[] actualTypeArguments = parameterizedType.getActualTypeArguments();
 
             if (rawType instanceof Class<?>) {
-                GenericsDeclaration declaration = new GenericsDeclaration((Class<?>) rawType);
-                declaration.setSubtype(Arrays.stream(actualTypeArguments)
+                List<GenericsDeclaration> subtypes = Arrays.stream(actualTypeArguments)
                     .map(GenericsDeclaration::of)
                     .filter(Objects::nonNull)
-                    .collect(Collectors.toList()));
-                return declaration;
+                    .collect(Collectors.toList());
+                return subtypes.isEmpty()
+                    ? INTERNED.get((Class<?>) rawType)
+                    : new GenericsDeclaration((Class<?>) rawType, subtypes);
             }
         }
 
@@ -132,7 +165,7 @@ public class GenericsDeclaration {
             }
 
             // Unbounded wildcard (?), use Object
-            return new GenericsDeclaration(Object.class);
+            return INTERNED.get(Object.class);
         }
 
         // Handle TypeVariable (e.g., T, K, V in generic declarations)
@@ -146,7 +179,7 @@ public class GenericsDeclaration {
             }
 
             // No bounds, use Object
-            return new GenericsDeclaration(Object.class);
+            return INTERNED.get(Object.class);
         }
 
         // Handle GenericArrayType (e.g., T[], List<String>[])
@@ -159,14 +192,14 @@ public class GenericsDeclaration {
 
             // Create array class from component type
             Class<?> arrayClass = Array.newInstance(componentDeclaration.getType(), 0).getClass();
-            return new GenericsDeclaration(arrayClass);
+            return INTERNED.get(arrayClass);
         }
 
         throw new IllegalArgumentException("cannot process type: " + type + " [" + type.getClass() + "]");
     }
 
     public GenericsDeclaration getSubtypeAtOrNull(int index) {
-        return (this.subtype == null) ? null : ((index >= this.subtype.size()) ? null : this.subtype.get(index));
+        return (index >= this.subtype.size()) ? null : this.subtype.get(index);
     }
 
     public GenericsDeclaration getSubtypeAtOrThrow(int index) {
@@ -194,6 +227,26 @@ public class GenericsDeclaration {
     }
 
     public boolean hasSubtypes() {
-        return (this.subtype != null) && !this.subtype.isEmpty();
+        return !this.subtype.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof GenericsDeclaration)) {
+            return false;
+        }
+        GenericsDeclaration that = (GenericsDeclaration) other;
+        return (this.hashCode == that.hashCode)
+            && (this.type == that.type)
+            && (this.isEnum == that.isEnum)
+            && this.subtype.equals(that.subtype);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hashCode;
     }
 }
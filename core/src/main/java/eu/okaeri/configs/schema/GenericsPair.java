@@ -1,16 +1,49 @@
 package eu.okaeri.configs.schema;
 
-import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
 
-@Data
-@AllArgsConstructor
+/**
+ * Immutable transformer lookup key with a precomputed hash code.
+ */
+@Getter
+@ToString
 public class GenericsPair<L, R> {
 
-    private GenericsDeclaration from;
-    private GenericsDeclaration to;
+    private final GenericsDeclaration from;
+    private final GenericsDeclaration to;
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private final int hashCode;
+
+    public GenericsPair(@NonNull GenericsDeclaration from, @NonNull GenericsDeclaration to) {
+        this.from = from;
+        this.to = to;
+        this.hashCode = (31 * from.hashCode()) + to.hashCode();
+    }
 
     public GenericsPair<R, L> reverse() {
         return new GenericsPair<R, L>(this.to, this.from);
     }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof GenericsPair)) {
+            return false;
+        }
+        GenericsPair<?, ?> that = (GenericsPair<?, ?>) other;
+        return (this.hashCode == that.hashCode)
+            && this.from.equals(that.from)
+            && this.to.equals(that.to);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
 }
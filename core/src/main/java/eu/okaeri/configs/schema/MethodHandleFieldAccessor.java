@@ -0,0 +1,206 @@
+package eu.okaeri.configs.schema;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/**
+ * {@link FieldAccessor} backed by unreflected {@link MethodHandle}s.
+ * <p>
+ * Handles are resolved once and adapted to erased signatures, so each access
+ * is a single {@code invokeExact} without reflective access checks. Primitive
+ * fields additionally get handles typed with the primitive itself, used by the
+ * specialized getters/setters to avoid boxing.
+ */
+final class MethodHandleFieldAccessor implements FieldAccessor {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    @Getter private final Field field;
+    private final Class<?> type;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+    private final MethodHandle primitiveGetter;
+    private final MethodHandle primitiveSetter;
+
+    MethodHandleFieldAccessor(@NonNull Field field) throws IllegalAccessException {
+
+        this.field = field;
+        this.type = field.getType();
+
+        MethodHandle getter = LOOKUP.unreflectGetter(field);
+        MethodHandle setter = LOOKUP.unreflectSetter(field);
+
+        this.getter = getter.asType(GETTER_TYPE);
+        this.setter = setter.asType(SETTER_TYPE);
+
+        if (this.type.isPrimitive()) {
+            this.primitiveGetter = getter.asType(MethodType.methodType(this.type, Object.class));
+            this.primitiveSetter = setter.asType(MethodType.methodType(void.class, Object.class, this.type));
+        } else {
+            this.primitiveGetter = null;
+            this.primitiveSetter = null;
+        }
+    }
+
+    @Override
+    @SneakyThrows
+    public Object get(Object target) {
+        return (Object) this.getter.invokeExact(target);
+    }
+
+    @Override
+    @SneakyThrows
+    public void set(Object target, Object value) {
+
+        // keep Field#set semantics for invalid values instead of NPE/CCE from the handle
+        if (value == null) {
+            if (this.type.isPrimitive()) {
+                throw new IllegalArgumentException("Can not set " + this.type.getName() + " field " + this.field + " to null value");
+            }
+        } else if (!this.type.isPrimitive() && !this.type.isInstance(value)) {
+            throw new IllegalArgumentException("Can not set " + this.type.getName() + " field " + this.field + " to " + value.getClass().getName());
+        }
+
+        try {
+            this.setter.invokeExact(target, value);
+        } catch (ClassCastException exception) {
+            throw new IllegalArgumentException("Can not set " + this.type.getName() + " field " + this.field + " to " + value.getClass().getName(), exception);
+        }
+    }
+
+    @Override
+    @SneakyThrows
+    public boolean getBoolean(Object target) {
+        return (this.type == boolean.class) ? (boolean) this.primitiveGetter.invokeExact(target) : FieldAccessor.super.getBoolean(target);
+    }
+
+    @Override
+    @SneakyThrows
+    public byte getByte(Object target) {
+        return (this.type == byte.class) ? (byte) this.primitiveGetter.invokeExact(target) : FieldAccessor.super.getByte(target);
+    }
+
+    @Override
+    @SneakyThrows
+    public char getChar(Object target) {
+        return (this.type == char.class) ? (char) this.primitiveGetter.invokeExact(target) : FieldAccessor.super.getChar(target);
+    }
+
+    @Override
+    @SneakyThrows
+    public short getShort(Object target) {
+        return (this.type == short.class) ? (short) this.primitiveGetter.invokeExact(target) : FieldAccessor.super.getShort(target);
+    }
+
+    @Override
+    @SneakyThrows
+    public int getInt(Object target) {
+        return (this.type == int.class) ? (int) this.primitiveGetter.invokeExact(target) : FieldAccessor.super.getInt(target);
+    }
+
+    @Override
+    @SneakyThrows
+    public long getLong(Object target) {
+        return (this.type == long.class) ? (long) this.primitiveGetter.invokeExact(target) : FieldAccessor.super.getLong(target);
+    }
+
+    @Override
+    @SneakyThrows
+    public float getFloat(Object target) {
+        return (this.type == float.class) ? (float) this.primitiveGetter.invokeExact(target) : FieldAccessor.super.getFloat(target);
+    }
+
+    @Override
+    @SneakyThrows
+    public double getDouble(Object target) {
+        return (this.type == double.class) ? (double) this.primitiveGetter.invokeExact(target) : FieldAccessor.super.getDouble(target);
+    }
+
+    @Override
+    @SneakyThrows
+    public void setBoolean(Object target, boolean value) {
+        if (this.type == boolean.class) {
+            this.primitiveSetter.invokeExact(target, value);
+            return;
+        }
+        FieldAccessor.super.setBoolean(target, value);
+    }
+
+    @Override
+    @SneakyThrows
+    public void setByte(Object target, byte value) {
+        if (this.type == byte.class) {
+            this.primitiveSetter.invokeExact(target, value);
+            return;
+        }
+        FieldAccessor.super.setByte(target, value);
+    }
+
+    @Override
+    @SneakyThrows
+    public void setChar(Object target, char value) {
+        if (this.type == char.class) {
+            this.primitiveSetter.invokeExact(target, value);
+            return;
+        }
+        FieldAccessor.super.setChar(target, value);
+    }
+
+    @Override
+    @SneakyThrows
+    public void setShort(Object target, short value) {
+        if (this.type == short.class) {
+            this.primitiveSetter.invokeExact(target, value);
+            return;
+        }
+        FieldAccessor.super.setShort(target, value);
+    }
+
+    @Override
+    @SneakyThrows
+    public void setInt(Object target, int value) {
+        if (this.type == int.class) {
+            this.primitiveSetter.invokeExact(target, value);
+            return;
+        }
+        FieldAccessor.super.setInt(target, value);
+    }
+
+    @Override
+    @SneakyThrows
+    public void setLong(Object target, long value) {
+        if (this.type == long.class) {
+            this.primitiveSetter.invokeExact(target, value);
+            return;
+        }
+        FieldAccessor.super.setLong(target, value);
+    }
+
+    @Override
+    @SneakyThrows
+    public void setFloat(Object target, float value) {
+        if (this.type == float.class) {
+            this.primitiveSetter.invokeExact(target, value);
+            return;
+        }
+        FieldAccessor.super.setFloat(target, value);
+    }
+
+    @Override
+    @SneakyThrows
+    public void setDouble(Object target, double value) {
+        if (this.type == double.class) {
+            this.primitiveSetter.invokeExact(target, value);
+            return;
+        }
+        FieldAccessor.super.setDouble(target, value);
+    }
+}
@@ -0,0 +1,37 @@
+package eu.okaeri.configs.schema;
+
+import eu.okaeri.configs.exception.OkaeriException;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.lang.reflect.Field;
+
+/**
+ * Fallback {@link FieldAccessor} using {@link Field} get/set directly.
+ */
+final class ReflectionFieldAccessor implements FieldAccessor {
+
+    @Getter private final Field field;
+
+    ReflectionFieldAccessor(@NonNull Field field) {
+        this.field = field;
+    }
+
+    @Override
+    public Object get(Object target) {
+        try {
+            return this.field.get(target);
+        } catch (IllegalAccessException exception) {
+            throw new OkaeriException("failed to get " + this.field, exception);
+        }
+    }
+
+    @Override
+    public void set(Object target, Object value) {
+        try {
+            this.field.set(target, value);
+        } catch (IllegalAccessException exception) {
+            throw new OkaeriException("failed to set " + this.field, exception);
+        }
+    }
+}
@@ -3,7 +3,6 @@ package eu.okaeri.configs.serdes;
 import eu.okaeri.configs.schema.ConfigDeclaration;
 import eu.okaeri.configs.schema.FieldDeclaration;
 import eu.okaeri.configs.schema.GenericsDeclaration;
-import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.NonNull;
@@ -23,14 +22,33 @@ import java.util.*;
  * </ul>
  * <p>
  * Instances are immutable - each navigation method returns a new ConfigPath.
+ * Paths are linked to their parent, so appending a node is constant time regardless
+ * of the depth; the node list is materialized only when requested (e.g. for
+ * {@link #toString()} in error reporting).
  */
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
-@EqualsAndHashCode
 public class ConfigPath implements SerdesContextAttachment {
 
-    public static final ConfigPath ROOT = new ConfigPath(Collections.emptyList());
+    public static final ConfigPath ROOT = new ConfigPath(null, null);
 
-    private final List<PathNode> nodes;
+    private static final IndexNode[] INDEX_NODES = new IndexNode[256];
+
+    static {
+        for (int i = 0; i < INDEX_NODES.length; i++) {
+            INDEX_NODES[i] = new IndexNode(i);
+        }
+    }
+
+    private final ConfigPath parent;
+    private final PathNode node;
+    private final int size;
+    private List<PathNode> nodes;
+
+    private ConfigPath(ConfigPath parent, PathNode node) {
+        this.parent = parent;
+        this.node = node;
+        this.size = (parent == null) ? 0 : (parent.size + 1);
+        this.nodes = (parent == null) ? Collections.emptyList() : null;
+    }
 
     /**
      * Creates an empty root path.
@@ -225,9 +243,7 @@ public class ConfigPath implements SerdesContextAttachment {
      * @return new path with property appended
      */
     public ConfigPath property(@NonNull String name) {
-        List<PathNode> newNodes = new ArrayList<>(this.nodes);
-        newNodes.add(new PropertyNode(name));
-        return new ConfigPath(newNodes);
+        return new ConfigPath(this, new PropertyNode(name));
     }
 
     /**
@@ -237,9 +253,8 @@ public class ConfigPath implements SerdesContextAttachment {
      * @return new path with index appended
      */
     public ConfigPath index(int index) {
-        List<PathNode> newNodes = new ArrayList<>(this.nodes);
-        newNodes.add(new IndexNode(index));
-        return new ConfigPath(newNodes);
+        IndexNode node = ((index >= 0) && (index < INDEX_NODES.length)) ? INDEX_NODES[index] : new IndexNode(index);
+        return new ConfigPath(this, node);
     }
 
     /**
@@ -249,9 +264,7 @@ public class ConfigPath implements SerdesContextAttachment {
      * @return new path with key appended
      */
     public ConfigPath key(@NonNull Object key) {
-        List<PathNode> newNodes = new ArrayList<>(this.nodes);
-        newNodes.add(new KeyNode(key));
-        return new ConfigPath(newNodes);
+        return new ConfigPath(this, new KeyNode(key));
     }
 
     /**
@@ -260,7 +273,7 @@ public class ConfigPath implements SerdesContextAttachment {
      * @return node count
      */
     public int size() {
-        return this.nodes.size();
+        return this.size;
     }
 
     /**
@@ -269,7 +282,7 @@ public class ConfigPath implements SerdesContextAttachment {
      * @return true if empty
      */
     public boolean isEmpty() {
-        return this.nodes.isEmpty();
+        return this.size == 0;
     }
 
     /**
@@ -278,7 +291,22 @@ public class ConfigPath implements SerdesContextAttachment {
      * @return list of nodes
      */
     public List<PathNode> getNodes() {
-        return Collections.unmodifiableList(this.nodes);
+        return this.nodes();
+    }
+
+    private List<PathNode> nodes() {
+        List<PathNode> nodes = this.nodes;
+        if (nodes == null) {
+            PathNode[] array = new PathNode[this.size];
+            ConfigPath current = this;
+            for (int i = this.size - 1; i >= 0; i--) {
+                array[i] = current.node;
+                current = current.parent;
+            }
+            nodes = Collections.unmodifiableList(Arrays.asList(array));
+            this.nodes = nodes;
+        }
+        return nodes;
     }
 
     /**
@@ -287,7 +315,7 @@ public class ConfigPath implements SerdesContextAttachment {
      * @return last node or null
      */
     public PathNode getLastNode() {
-        return this.nodes.isEmpty() ? null : this.nodes.get(this.nodes.size() - 1);
+        return this.node;
     }
 
     /**
@@ -296,10 +324,10 @@ public class ConfigPath implements SerdesContextAttachment {
      * @return parent path, or ROOT if this is already root or single-node
      */
     public ConfigPath parent() {
-        if (this.nodes.size() <= 1) {
+        if (this.size <= 1) {
             return ROOT;
         }
-        return new ConfigPath(new ArrayList<>(this.nodes.subList(0, this.nodes.size() - 1)));
+        return this.parent;
     }
 
     /**
@@ -323,21 +351,51 @@ public class ConfigPath implements SerdesContextAttachment {
      * @throws IndexOutOfBoundsException if endIndex is out of range
      */
     public ConfigPath subPath(int endIndex) {
-        if ((endIndex < 0) || (endIndex >= this.nodes.size())) {
-            throw new IndexOutOfBoundsException("endIndex: " + endIndex + ", size: " + this.nodes.size());
+        if ((endIndex < 0) || (endIndex >= this.size)) {
+            throw new IndexOutOfBoundsException("endIndex: " + endIndex + ", size: " + this.size);
+        }
+        ConfigPath current = this;
+        while (current.size > (endIndex + 1)) {
+            current = current.parent;
         }
-        return new ConfigPath(new ArrayList<>(this.nodes.subList(0, endIndex + 1)));
+        return current;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof ConfigPath) || (((ConfigPath) other).size != this.size)) {
+            return false;
+        }
+        ConfigPath left = this;
+        ConfigPath right = (ConfigPath) other;
+        while ((left != right) && (left.size > 0)) {
+            if (!left.node.equals(right.node)) {
+                return false;
+            }
+            left = left.parent;
+            right = right.parent;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return this.nodes().hashCode();
     }
 
     @Override
     public String toString() {
-        if (this.nodes.isEmpty()) {
+        if (this.size == 0) {
             return "<root>";
         }
 
+        List<PathNode> nodes = this.nodes();
         StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < this.nodes.size(); i++) {
-            PathNode node = this.nodes.get(i);
+        for (int i = 0; i < nodes.size(); i++) {
+            PathNode node = nodes.get(i);
 
             if (node instanceof PropertyNode) {
                 if (i > 0) {
@@ -384,7 +442,7 @@ public class ConfigPath implements SerdesContextAttachment {
         ConfigDeclaration currentDecl = rootDeclaration;
         FieldDeclaration lastField = null;
 
-        for (PathNode node : this.nodes) {
+        for (PathNode node : this.nodes()) {
             if (node instanceof PropertyNode) {
                 String name = ((PropertyNode) node).getName();
 
@@ -460,7 +518,7 @@ public class ConfigPath implements SerdesContextAttachment {
      */
     public String toPattern() {
         StringBuilder sb = new StringBuilder();
-        for (PathNode node : this.nodes) {
+        for (PathNode node : this.nodes()) {
             if (sb.length() > 0) {
                 sb.append(".");
             }
@@ -503,7 +561,7 @@ public class ConfigPath implements SerdesContextAttachment {
         ConfigDeclaration currentDecl = declaration;
         FieldDeclaration lastField = null;
 
-        for (PathNode node : this.nodes) {
+        for (PathNode node : this.nodes()) {
             if (node instanceof PropertyNode) {
                 String name = ((PropertyNode) node).getName();
 
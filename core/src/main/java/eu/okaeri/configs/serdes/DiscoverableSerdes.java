@@ -0,0 +1,22 @@
+package eu.okaeri.configs.serdes;
+
+import java.util.Set;
+
+/**
+ * Serdes pack declaring the types it handles, allowing it to be registered on demand.
+ * <p>
+ * Packs registered with {@link SerdesRegistry#registerLazy(DiscoverableSerdes)} or found by
+ * {@link SerdesRegistry#discover(ClassLoader)} (through {@link java.util.ServiceLoader} and
+ * {@code META-INF/services/eu.okaeri.configs.serdes.DiscoverableSerdes}) are registered only
+ * when the registry first looks up one of the declared types or their subtypes.
+ * <p>
+ * Types are declared by their fully qualified names, so no classes are loaded until needed.
+ * Packs can still be registered eagerly like any other {@link OkaeriSerdes}.
+ */
+public interface DiscoverableSerdes extends OkaeriSerdes {
+
+    /**
+     * @return fully qualified names of the types handled by this pack
+     */
+    Set<String> getHandledTypes();
+}
@@ -26,7 +26,7 @@ public class SerdesContext {
     }
 
     public static SerdesContext of(@NonNull Configurer configurer, ConfigContext configContext, FieldDeclaration field) {
-        return of(configurer, configContext, field, (field == null) ? new SerdesContextAttachments() : field.readStaticAnnotations(configurer), ConfigPath.root());
+        return of(configurer, configContext, field, (field == null) ? SerdesContextAttachments.EMPTY : field.readStaticAnnotations(configurer), ConfigPath.root());
     }
 
     public static SerdesContext of(@NonNull Configurer configurer, ConfigContext configContext, FieldDeclaration field, @NonNull SerdesContextAttachments attachments, @NonNull ConfigPath path) {
@@ -109,7 +109,7 @@ public class SerdesContext {
      * @return new context with updated field
      */
     public SerdesContext withField(FieldDeclaration field) {
-        SerdesContextAttachments newAttachments = (field == null) ? new SerdesContextAttachments() : field.readStaticAnnotations(this.configurer);
+        SerdesContextAttachments newAttachments = (field == null) ? SerdesContextAttachments.EMPTY : field.readStaticAnnotations(this.configurer);
         return new SerdesContext(this.configurer, this.configContext, field, newAttachments, this.path);
     }
 
@@ -1,13 +1,73 @@
 package eu.okaeri.configs.serdes;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.*;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 public class SerdesContextAttachments extends LinkedHashMap<Class<? extends SerdesContextAttachment>, SerdesContextAttachment> {
 
+    /**
+     * Shared empty attachments used for contexts without field.
+     */
+    public static final SerdesContextAttachments EMPTY = new SerdesContextAttachments().freeze();
+
+    private boolean frozen;
+    private transient Map<Class<? extends SerdesContextAttachment>, SerdesContextAttachment> readOnlyView;
+
+    /**
+     * Makes this instance read-only, allowing it to be safely shared
+     * between contexts (e.g. when cached per field in {@link SerdesRegistry}).
+     * Collection views ({@link #entrySet()}, {@link #keySet()}, {@link #values()})
+     * of frozen instances are read-only as well.
+     *
+     * @return this instance
+     */
+    public SerdesContextAttachments freeze() {
+        if (this.frozen) {
+            return this;
+        }
+        this.readOnlyView = Collections.unmodifiableMap(new AbstractMap<Class<? extends SerdesContextAttachment>, SerdesContextAttachment>() {
+            @Override
+            public Set<Entry<Class<? extends SerdesContextAttachment>, SerdesContextAttachment>> entrySet() {
+                return SerdesContextAttachments.this.mutableEntrySet();
+            }
+        });
+        this.frozen = true;
+        return this;
+    }
+
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    private void checkMutable() {
+        if (this.frozen) {
+            throw new UnsupportedOperationException("cannot modify frozen SerdesContext attachments (tip: use clone())");
+        }
+    }
+
+    private Set<Map.Entry<Class<? extends SerdesContextAttachment>, SerdesContextAttachment>> mutableEntrySet() {
+        return super.entrySet();
+    }
+
+    @Override
+    public Set<Map.Entry<Class<? extends SerdesContextAttachment>, SerdesContextAttachment>> entrySet() {
+        return this.frozen ? this.readOnlyView.entrySet() : super.entrySet();
+    }
+
+    @Override
+    public Set<Class<? extends SerdesContextAttachment>> keySet() {
+        return this.frozen ? this.readOnlyView.keySet() : super.keySet();
+    }
+
+    @Override
+    public Collection<SerdesContextAttachment> values() {
+        return this.frozen ? this.readOnlyView.values() : super.values();
+    }
+
     @Override
     public SerdesContextAttachment put(Class<? extends SerdesContextAttachment> key, SerdesContextAttachment value) {
+        this.checkMutable();
         if (this.containsKey(key)) {
             throw new IllegalArgumentException("cannot override SerdesContext attachment of type " + key);
         }
@@ -16,6 +76,7 @@ public class SerdesContextAttachments extends LinkedHashMap<Class<? extends Serd
 
     @Override
     public SerdesContextAttachment putIfAbsent(Class<? extends SerdesContextAttachment> key, SerdesContextAttachment value) {
+        this.checkMutable();
         if (this.containsKey(key)) {
             throw new IllegalArgumentException("cannot override SerdesContext attachment of type " + key);
         }
@@ -24,6 +85,7 @@ public class SerdesContextAttachments extends LinkedHashMap<Class<? extends Serd
 
     @Override
     public void putAll(Map<? extends Class<? extends SerdesContextAttachment>, ? extends SerdesContextAttachment> map) {
+        this.checkMutable();
         for (Class<? extends SerdesContextAttachment> key : map.keySet()) {
             if (this.containsKey(key)) {
                 throw new IllegalArgumentException("cannot override SerdesContext attachment of type " + key);
@@ -32,13 +94,70 @@ public class SerdesContextAttachments extends LinkedHashMap<Class<? extends Serd
         super.putAll(map);
     }
 
+    @Override
+    public SerdesContextAttachment remove(Object key) {
+        this.checkMutable();
+        return super.remove(key);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        this.checkMutable();
+        return super.remove(key, value);
+    }
+
+    @Override
+    public void clear() {
+        this.checkMutable();
+        super.clear();
+    }
+
+    @Override
+    public SerdesContextAttachment computeIfAbsent(Class<? extends SerdesContextAttachment> key, Function<? super Class<? extends SerdesContextAttachment>, ? extends SerdesContextAttachment> mappingFunction) {
+        this.checkMutable();
+        return super.computeIfAbsent(key, mappingFunction);
+    }
+
     @Override
     public SerdesContextAttachment computeIfPresent(Class<? extends SerdesContextAttachment> key, BiFunction<? super Class<? extends SerdesContextAttachment>, ? super SerdesContextAttachment, ? extends SerdesContextAttachment> remappingFunction) {
         throw new RuntimeException("???");
     }
 
+    @Override
+    public SerdesContextAttachment compute(Class<? extends SerdesContextAttachment> key, BiFunction<? super Class<? extends SerdesContextAttachment>, ? super SerdesContextAttachment, ? extends SerdesContextAttachment> remappingFunction) {
+        this.checkMutable();
+        return super.compute(key, remappingFunction);
+    }
+
+    @Override
+    public SerdesContextAttachment merge(Class<? extends SerdesContextAttachment> key, SerdesContextAttachment value, BiFunction<? super SerdesContextAttachment, ? super SerdesContextAttachment, ? extends SerdesContextAttachment> remappingFunction) {
+        this.checkMutable();
+        return super.merge(key, value, remappingFunction);
+    }
+
+    @Override
+    public SerdesContextAttachment replace(Class<? extends SerdesContextAttachment> key, SerdesContextAttachment value) {
+        this.checkMutable();
+        return super.replace(key, value);
+    }
+
+    @Override
+    public boolean replace(Class<? extends SerdesContextAttachment> key, SerdesContextAttachment oldValue, SerdesContextAttachment newValue) {
+        this.checkMutable();
+        return super.replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super Class<? extends SerdesContextAttachment>, ? super SerdesContextAttachment, ? extends SerdesContextAttachment> function) {
+        this.checkMutable();
+        super.replaceAll(function);
+    }
+
     @Override
     public SerdesContextAttachments clone() {
-        return (SerdesContextAttachments) super.clone();
+        SerdesContextAttachments clone = (SerdesContextAttachments) super.clone();
+        clone.frozen = false;
+        clone.readOnlyView = null;
+        return clone;
     }
 }
@@ -5,10 +5,11 @@ import eu.okaeri.configs.schema.GenericsPair;
 import lombok.NonNull;
 
 import java.lang.annotation.Annotation;
-import java.util.List;
-import java.util.Map;
+import java.lang.reflect.Field;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
@@ -37,6 +38,13 @@ import java.util.stream.Collectors;
  * );
  * }</pre>
  *
+ * <p>
+ * <b>Layering:</b> a registry may be created on top of a frozen base registry
+ * (e.g. {@link eu.okaeri.configs.serdes.standard.StandardSerdes#sharedRegistry()}).
+ * Components registered later are kept in the overlay and take precedence,
+ * lookups fall back to the base without copying it. Operations that need to
+ * reorder or remove base serializers copy them into the overlay first.
+ *
  * @see OkaeriSerdes
  * @see ObjectTransformer
  * @see ObjectSerializer
@@ -44,9 +52,72 @@ import java.util.stream.Collectors;
  */
 public class SerdesRegistry {
 
+    private final SerdesRegistry base;
+    private volatile boolean frozen;
+    private volatile CompiledRegistry compiled;
+    private volatile boolean serializersDetached;
     private final Map<Class<? extends Annotation>, SerdesAnnotationResolver<Annotation, SerdesContextAttachment>> annotationResolverMap = new ConcurrentHashMap<>();
     private final List<ObjectSerializer> serializerList = new CopyOnWriteArrayList<>();
     private final Map<GenericsPair, ObjectTransformer> transformerMap = new ConcurrentHashMap<>();
+    private volatile Map<Field, SerdesContextAttachments> attachmentCache = new ConcurrentHashMap<>();
+    private volatile Map<Class<?>, Optional<ObjectSerializer>> serializerCache = new ConcurrentHashMap<>();
+    private volatile TransformerIndex transformerIndex;
+    private final AtomicLong version = new AtomicLong();
+    private final List<DiscoverableSerdes> pendingPacks = new CopyOnWriteArrayList<>();
+    private final Set<Class<?>> seenTypes = ConcurrentHashMap.newKeySet();
+
+    public SerdesRegistry() {
+        this.base = null;
+    }
+
+    /**
+     * Creates an empty registry layered on top of the frozen base registry.
+     *
+     * @param base the frozen base registry
+     * @throws IllegalArgumentException if the base registry is not frozen
+     */
+    public SerdesRegistry(@NonNull SerdesRegistry base) {
+        if (!base.isFrozen()) {
+            throw new IllegalArgumentException("base registry must be frozen");
+        }
+        this.base = base;
+    }
+
+    /**
+     * Freezes this registry. Any further registration fails with {@link IllegalStateException}.
+     * Frozen registries can be shared as the base of other registries.
+     * <p>
+     * All components (including the base ones) are compiled into flat, read-only
+     * structures: serializers into a priority ordered array with per-class memoized
+     * lookup, transformers into a prebuilt adjacency index and annotation resolvers
+     * into a plain hash table. Lookups on a frozen registry do not lock.
+     *
+     * @return this registry
+     */
+    public synchronized SerdesRegistry freeze() {
+        if (this.frozen) {
+            return this;
+        }
+        // lazy packs cannot be registered into a frozen registry
+        for (DiscoverableSerdes pack : this.pendingPacks) {
+            if (this.pendingPacks.remove(pack)) {
+                pack.register(this);
+            }
+        }
+        this.frozen = true;
+        this.compiled = new CompiledRegistry(this.allTransformers(), this.allSerializers(), this.allAnnotationResolvers());
+        return this;
+    }
+
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    private void checkMutable() {
+        if (this.frozen) {
+            throw new IllegalStateException("cannot modify frozen registry");
+        }
+    }
 
     /**
      * Registers one or more serdes components.
@@ -65,6 +136,78 @@ public class SerdesRegistry {
         }
     }
 
+    /**
+     * Registers a serdes pack on demand.
+     * <p>
+     * The pack is registered when the registry first looks up one of its
+     * {@link DiscoverableSerdes#getHandledTypes() handled types} or their subtypes.
+     * Freezing the registry registers all pending packs.
+     *
+     * @param pack the pack to register lazily
+     */
+    public void registerLazy(@NonNull DiscoverableSerdes pack) {
+        this.checkMutable();
+        synchronized (this.pendingPacks) {
+            this.pendingPacks.add(pack);
+            this.seenTypes.clear();
+        }
+        this.version.incrementAndGet();
+    }
+
+    /**
+     * Discovers {@link DiscoverableSerdes} packs using {@link ServiceLoader} and registers them lazily.
+     * Packs that fail to load (e.g. because of missing optional dependencies) are skipped.
+     *
+     * @param classLoader the class loader to search for packs
+     */
+    public void discover(@NonNull ClassLoader classLoader) {
+        Iterator<DiscoverableSerdes> iterator = ServiceLoader.load(DiscoverableSerdes.class, classLoader).iterator();
+        while (true) {
+            try {
+                if (!iterator.hasNext()) {
+                    break;
+                }
+                this.registerLazy(iterator.next());
+            } catch (ServiceConfigurationError | LinkageError ignored) {
+            }
+        }
+    }
+
+    private void activate(Class<?> type) {
+
+        if (this.pendingPacks.isEmpty() || this.seenTypes.contains(type)) {
+            return;
+        }
+
+        synchronized (this.pendingPacks) {
+
+            if (this.seenTypes.contains(type)) {
+                return;
+            }
+
+            Set<String> names = new HashSet<>();
+            collectTypeNames(type, names);
+
+            for (DiscoverableSerdes pack : this.pendingPacks) {
+                if (!Collections.disjoint(pack.getHandledTypes(), names) && this.pendingPacks.remove(pack)) {
+                    pack.register(this);
+                }
+            }
+
+            this.seenTypes.add(type);
+        }
+    }
+
+    private static void collectTypeNames(Class<?> type, Set<String> names) {
+        if ((type == null) || !names.add(type.getName())) {
+            return;
+        }
+        collectTypeNames(type.getSuperclass(), names);
+        for (Class<?> anInterface : type.getInterfaces()) {
+            collectTypeNames(anInterface, names);
+        }
+    }
+
     /**
      * Registers a unidirectional transformer.
      * <p>
@@ -74,7 +217,9 @@ public class SerdesRegistry {
      * @param transformer the transformer to register
      */
     public void register(@NonNull ObjectTransformer transformer) {
+        this.checkMutable();
         this.transformerMap.put(transformer.getPair(), transformer);
+        this.invalidateTransformers();
     }
 
     /**
@@ -140,6 +285,7 @@ public class SerdesRegistry {
      * @param transformer the forward transformer to register
      */
     public void registerWithReversedToString(@NonNull ObjectTransformer transformer) {
+        this.checkMutable();
         this.transformerMap.put(transformer.getPair(), transformer);
 
         GenericsPair reversePair = transformer.getPair().reverse();
@@ -156,6 +302,7 @@ public class SerdesRegistry {
         };
 
         this.transformerMap.put(reversePair, reverseTransformer);
+        this.invalidateTransformers();
     }
 
     /**
@@ -167,7 +314,10 @@ public class SerdesRegistry {
      * @param serializer the serializer to register
      */
     public void register(@NonNull ObjectSerializer serializer) {
+        this.checkMutable();
         this.serializerList.add(serializer);
+        this.serializerCache = new ConcurrentHashMap<>();
+        this.version.incrementAndGet();
     }
 
     /**
@@ -179,7 +329,11 @@ public class SerdesRegistry {
      * @param serializer the serializer to register
      */
     public void registerFirst(@NonNull ObjectSerializer serializer) {
+        this.checkMutable();
+        this.detachSerializers();
         this.serializerList.add(0, serializer);
+        this.serializerCache = new ConcurrentHashMap<>();
+        this.version.incrementAndGet();
     }
 
     /**
@@ -191,8 +345,12 @@ public class SerdesRegistry {
      */
     @SuppressWarnings("unchecked")
     public void registerExclusive(@NonNull Class<?> type, @NonNull ObjectSerializer serializer) {
+        this.checkMutable();
+        this.detachSerializers();
         this.serializerList.removeIf(ser -> ser.supports(type));
         this.serializerList.add(serializer);
+        this.serializerCache = new ConcurrentHashMap<>();
+        this.version.incrementAndGet();
     }
 
     /**
@@ -203,8 +361,27 @@ public class SerdesRegistry {
      * @return the transformer, or null if none registered for this pair
      */
     public ObjectTransformer getTransformer(@NonNull GenericsDeclaration from, @NonNull GenericsDeclaration to) {
-        GenericsPair pair = new GenericsPair(from, to);
-        return this.transformerMap.get(pair);
+        this.activate(from.getType());
+        this.activate(to.getType());
+        Map<GenericsDeclaration, ObjectTransformer> edges = this.transformers().getEdges(from);
+        return (edges == null) ? null : edges.get(to);
+    }
+
+    /**
+     * Gets the shortest transformer route between two types.
+     * <p>
+     * Direct transformers are preferred. Otherwise, a two-step conversion through
+     * an intermediate type is searched (e.g., {@code Integer → String → Long}).
+     * Routes are memoized until another transformer is registered.
+     *
+     * @param from the source type
+     * @param to the target type
+     * @return unmodifiable list with one (direct) or two (two-step) transformers, empty if no route exists
+     */
+    public List<ObjectTransformer> getTransformerRoute(@NonNull GenericsDeclaration from, @NonNull GenericsDeclaration to) {
+        this.activate(from.getType());
+        this.activate(to.getType());
+        return this.transformers().getRoute(from, to);
     }
 
     /**
@@ -214,10 +391,9 @@ public class SerdesRegistry {
      * @return list of transformers (may be empty)
      */
     public List<ObjectTransformer> getTransformersFrom(@NonNull GenericsDeclaration from) {
-        return this.transformerMap.entrySet().stream()
-            .filter(entry -> from.equals(entry.getKey().getFrom()))
-            .map(Map.Entry::getValue)
-            .collect(Collectors.toList());
+        this.activate(from.getType());
+        Map<GenericsDeclaration, ObjectTransformer> edges = this.transformers().getEdges(from);
+        return (edges == null) ? new ArrayList<>() : new ArrayList<>(edges.values());
     }
 
     /**
@@ -227,7 +403,8 @@ public class SerdesRegistry {
      * @return list of transformers (may be empty)
      */
     public List<ObjectTransformer> getTransformersTo(@NonNull GenericsDeclaration to) {
-        return this.transformerMap.entrySet().stream()
+        this.activate(to.getType());
+        return this.allTransformers().entrySet().stream()
             .filter(entry -> to.equals(entry.getKey().getTo()))
             .map(Map.Entry::getValue)
             .collect(Collectors.toList());
@@ -248,20 +425,90 @@ public class SerdesRegistry {
      * Gets a serializer that supports the specified class.
      * <p>
      * Uses reverse iteration, so the last registered serializer that supports
-     * the type is returned.
+     * the type is returned. Results (including missing serializers) are cached
+     * per class until another serializer is registered.
      *
      * @param clazz the class to serialize
      * @return the serializer, or null if none supports this class
      */
-    @SuppressWarnings("unchecked")
     public ObjectSerializer getSerializer(@NonNull Class<?> clazz) {
+        this.activate(clazz);
+        CompiledRegistry compiled = this.compiled;
+        if (compiled != null) {
+            return compiled.serializers.get(clazz).orElse(null);
+        }
+        if ((this.base != null) && !this.serializersDetached && this.serializerList.isEmpty()) {
+            return this.base.getSerializer(clazz);
+        }
+        return this.serializerCache.computeIfAbsent(clazz, this::findSerializer).orElse(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<ObjectSerializer> findSerializer(Class<?> clazz) {
         for (int i = this.serializerList.size() - 1; i >= 0; i--) {
             ObjectSerializer serializer = this.serializerList.get(i);
             if (serializer.supports(clazz)) {
-                return serializer;
+                return Optional.of(serializer);
             }
         }
-        return null;
+        if ((this.base != null) && !this.serializersDetached) {
+            return Optional.ofNullable(this.base.getSerializer(clazz));
+        }
+        return Optional.empty();
+    }
+
+    // copies base serializers into the overlay, so they can be reordered or removed
+    private synchronized void detachSerializers() {
+        if ((this.base == null) || this.serializersDetached) {
+            return;
+        }
+        this.serializerList.addAll(0, this.base.allSerializers());
+        this.serializersDetached = true;
+    }
+
+    private Map<GenericsPair, ObjectTransformer> allTransformers() {
+        if (this.base == null) {
+            return this.transformerMap;
+        }
+        Map<GenericsPair, ObjectTransformer> transformers = new ConcurrentHashMap<>(this.base.allTransformers());
+        transformers.putAll(this.transformerMap);
+        return transformers;
+    }
+
+    private TransformerIndex transformers() {
+        CompiledRegistry compiled = this.compiled;
+        if (compiled != null) {
+            return compiled.transformers;
+        }
+        if ((this.base != null) && this.transformerMap.isEmpty()) {
+            return this.base.transformers();
+        }
+        TransformerIndex index = this.transformerIndex;
+        return (index == null) ? this.buildTransformers() : index;
+    }
+
+    private synchronized TransformerIndex buildTransformers() {
+        if (this.transformerIndex == null) {
+            this.transformerIndex = new TransformerIndex(this.allTransformers());
+        }
+        return this.transformerIndex;
+    }
+
+    private synchronized void invalidateTransformers() {
+        this.transformerIndex = null;
+        this.version.incrementAndGet();
+    }
+
+    /**
+     * Gets the registration version of this registry.
+     * <p>
+     * The version changes every time a component is registered, allowing
+     * caches derived from the registry contents to detect stale entries.
+     *
+     * @return current version
+     */
+    public long getVersion() {
+        return this.version.get();
     }
 
     /**
@@ -274,7 +521,10 @@ public class SerdesRegistry {
      */
     @SuppressWarnings("unchecked")
     public void register(@NonNull SerdesAnnotationResolver<? extends Annotation, ? extends SerdesContextAttachment> annotationResolver) {
+        this.checkMutable();
         this.annotationResolverMap.put(annotationResolver.getAnnotationType(), (SerdesAnnotationResolver<Annotation, SerdesContextAttachment>) annotationResolver);
+        this.attachmentCache = new ConcurrentHashMap<>();
+        this.version.incrementAndGet();
     }
 
     /**
@@ -284,7 +534,12 @@ public class SerdesRegistry {
      * @return the resolver, or null if none registered
      */
     public SerdesAnnotationResolver<Annotation, SerdesContextAttachment> getAnnotationResolver(@NonNull Class<? extends Annotation> annotationType) {
-        return this.annotationResolverMap.get(annotationType);
+        CompiledRegistry compiled = this.compiled;
+        if (compiled != null) {
+            return compiled.annotationResolvers.get(annotationType);
+        }
+        SerdesAnnotationResolver<Annotation, SerdesContextAttachment> resolver = this.annotationResolverMap.get(annotationType);
+        return ((resolver == null) && (this.base != null)) ? this.base.getAnnotationResolver(annotationType) : resolver;
     }
 
     /**
@@ -294,21 +549,207 @@ public class SerdesRegistry {
      * @return the resolver, or null if none registered
      */
     public SerdesAnnotationResolver<Annotation, SerdesContextAttachment> getAnnotationResolver(@NonNull Annotation annotation) {
-        return this.annotationResolverMap.get(annotation.annotationType());
+        return this.getAnnotationResolver(annotation.annotationType());
+    }
+
+    /**
+     * Gets the static attachments resolved from the field and its declaring class annotations.
+     * <p>
+     * Field-level attachments take precedence over class-level ones of the same type.
+     * Results are resolved once per field and shared as frozen instances until
+     * another annotation resolver is registered.
+     *
+     * @param field the field to resolve attachments for
+     * @return frozen attachments (may be empty)
+     */
+    public SerdesContextAttachments getAttachments(@NonNull Field field) {
+        this.activate(field.getType());
+        if ((this.base != null) && this.annotationResolverMap.isEmpty()) {
+            return this.base.getAttachments(field);
+        }
+        return this.attachmentCache.computeIfAbsent(field, this::resolveAttachments);
+    }
+
+    private SerdesContextAttachments resolveAttachments(Field field) {
+
+        SerdesContextAttachments attachments = new SerdesContextAttachments();
+
+        // Process field-level annotations first (these take precedence)
+        for (Annotation annotation : field.getAnnotations()) {
+            SerdesAnnotationResolver<Annotation, SerdesContextAttachment> annotationResolver = this.getAnnotationResolver(annotation);
+            if (annotationResolver == null) {
+                continue;
+            }
+            Optional<? extends SerdesContextAttachment> attachmentOptional = annotationResolver.resolveAttachment(field, annotation);
+            if (!attachmentOptional.isPresent()) {
+                continue;
+            }
+            SerdesContextAttachment attachment = attachmentOptional.get();
+            Class<? extends SerdesContextAttachment> attachmentType = attachment.getClass();
+            attachments.put(attachmentType, attachment);
+        }
+
+        // Fallback to class-level annotations for attachment types not found on field
+        Class<?> declaringClass = field.getDeclaringClass();
+        for (Annotation classAnnotation : declaringClass.getAnnotations()) {
+            SerdesAnnotationResolver<Annotation, SerdesContextAttachment> annotationResolver = this.getAnnotationResolver(classAnnotation);
+            if (annotationResolver == null) {
+                continue;
+            }
+
+            // Try class-level resolution
+            Optional<? extends SerdesContextAttachment> classAttachmentOptional = annotationResolver.resolveClassAttachment(declaringClass, classAnnotation);
+            if (!classAttachmentOptional.isPresent()) {
+                continue;
+            }
+
+            SerdesContextAttachment classAttachment = classAttachmentOptional.get();
+            Class<? extends SerdesContextAttachment> attachmentType = classAttachment.getClass();
+
+            // Only add if field doesn't already have this attachment type (field-level wins)
+            if (!attachments.containsKey(attachmentType)) {
+                attachments.put(attachmentType, classAttachment);
+            }
+        }
+
+        return attachments.isEmpty() ? SerdesContextAttachments.EMPTY : attachments.freeze();
     }
 
     /**
      * Creates a serdes pack containing all registered components.
      * <p>
-     * Useful for copying all serdes from one registry to another.
+     * Useful for copying all serdes from one registry to another. Registries layered on
+     * the same base already fall back to it, so only the overlay components are copied
+     * into them.
      *
-     * @return a pack that registers all current transformers, serializers, and resolvers
+     * @return a pack that registers all current transformers, serializers, resolvers, and pending lazy packs
      */
     public OkaeriSerdes allSerdes() {
         return registry -> {
+            if ((this.base == null) || (registry.base != this.base)) {
+                this.allTransformers().values().forEach(registry::register);
+                this.allSerializers().forEach(registry::register);
+                this.allAnnotationResolvers().values().forEach(registry::register);
+                this.pendingPacks.forEach(registry::registerLazy);
+                return;
+            }
             this.transformerMap.values().forEach(registry::register);
-            this.serializerList.forEach(registry::register);
+            if (this.serializersDetached) {
+                registry.registerDetached(this.serializerList);
+            } else {
+                this.serializerList.forEach(registry::register);
+            }
             this.annotationResolverMap.values().forEach(registry::register);
+            this.pendingPacks.forEach(registry::registerLazy);
         };
     }
+
+    // takes over serializers of a detached registry with the same base, these already include the (reordered) base ones
+    private synchronized void registerDetached(@NonNull List<ObjectSerializer> serializers) {
+        this.checkMutable();
+        this.serializersDetached = true;
+        this.serializerList.addAll(serializers);
+        this.serializerCache = new ConcurrentHashMap<>();
+        this.version.incrementAndGet();
+    }
+
+    private List<ObjectSerializer> allSerializers() {
+        if ((this.base == null) || this.serializersDetached) {
+            return this.serializerList;
+        }
+        List<ObjectSerializer> serializers = new ArrayList<>(this.base.allSerializers());
+        serializers.addAll(this.serializerList);
+        return serializers;
+    }
+
+    private Map<Class<? extends Annotation>, SerdesAnnotationResolver<Annotation, SerdesContextAttachment>> allAnnotationResolvers() {
+        if (this.base == null) {
+            return this.annotationResolverMap;
+        }
+        Map<Class<? extends Annotation>, SerdesAnnotationResolver<Annotation, SerdesContextAttachment>> resolvers = new LinkedHashMap<>(this.base.allAnnotationResolvers());
+        resolvers.putAll(this.annotationResolverMap);
+        return resolvers;
+    }
+
+    /**
+     * Read-only snapshot of a frozen registry.
+     */
+    private static final class CompiledRegistry {
+
+        private final TransformerIndex transformers;
+        private final ObjectSerializer[] serializerArray;
+        private final Map<Class<? extends Annotation>, SerdesAnnotationResolver<Annotation, SerdesContextAttachment>> annotationResolvers;
+
+        // serializers in priority order (last registered first)
+        private final ClassValue<Optional<ObjectSerializer>> serializers = new ClassValue<Optional<ObjectSerializer>>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            protected Optional<ObjectSerializer> computeValue(Class<?> type) {
+                for (ObjectSerializer serializer : CompiledRegistry.this.serializerArray) {
+                    if (serializer.supports(type)) {
+                        return Optional.of(serializer);
+                    }
+                }
+                return Optional.empty();
+            }
+        };
+
+        private CompiledRegistry(Map<GenericsPair, ObjectTransformer> transformers, List<ObjectSerializer> serializers,
+                                 Map<Class<? extends Annotation>, SerdesAnnotationResolver<Annotation, SerdesContextAttachment>> annotationResolvers) {
+            this.transformers = new TransformerIndex(transformers);
+            List<ObjectSerializer> reversed = new ArrayList<>(serializers);
+            Collections.reverse(reversed);
+            this.serializerArray = reversed.toArray(new ObjectSerializer[0]);
+            this.annotationResolvers = new HashMap<>(annotationResolvers);
+        }
+    }
+
+    /**
+     * Adjacency view of the transformer map (source type → target type → transformer)
+     * with memoized routes. Built lazily on first lookup after registration.
+     */
+    private static final class TransformerIndex {
+
+        private final Map<GenericsDeclaration, Map<GenericsDeclaration, ObjectTransformer>> edges = new HashMap<>();
+        private final Map<GenericsDeclaration, Map<GenericsDeclaration, List<ObjectTransformer>>> routes = new ConcurrentHashMap<>();
+
+        private TransformerIndex(Map<GenericsPair, ObjectTransformer> transformerMap) {
+            transformerMap.forEach((pair, transformer) -> this.edges
+                .computeIfAbsent(pair.getFrom(), from -> new LinkedHashMap<>())
+                .put(pair.getTo(), transformer));
+        }
+
+        private Map<GenericsDeclaration, ObjectTransformer> getEdges(GenericsDeclaration from) {
+            return this.edges.get(from);
+        }
+
+        private List<ObjectTransformer> getRoute(GenericsDeclaration from, GenericsDeclaration to) {
+            return this.routes
+                .computeIfAbsent(from, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(to, key -> this.findRoute(from, to));
+        }
+
+        private List<ObjectTransformer> findRoute(GenericsDeclaration from, GenericsDeclaration to) {
+
+            Map<GenericsDeclaration, ObjectTransformer> stepOneEdges = this.edges.get(from);
+            if (stepOneEdges == null) {
+                return Collections.emptyList();
+            }
+
+            ObjectTransformer direct = stepOneEdges.get(to);
+            if (direct != null) {
+                return Collections.singletonList(direct);
+            }
+
+            for (Map.Entry<GenericsDeclaration, ObjectTransformer> stepOne : stepOneEdges.entrySet()) {
+                Map<GenericsDeclaration, ObjectTransformer> stepTwoEdges = this.edges.get(stepOne.getKey());
+                ObjectTransformer stepTwo = (stepTwoEdges == null) ? null : stepTwoEdges.get(to);
+                if (stepTwo != null) {
+                    return Collections.unmodifiableList(Arrays.asList(stepOne.getValue(), stepTwo));
+                }
+            }
+
+            return Collections.emptyList();
+        }
+    }
 }
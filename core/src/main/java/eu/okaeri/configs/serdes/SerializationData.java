@@ -45,6 +45,7 @@ public class SerializationData implements TypedKeyWriter {
     @Getter @NonNull private final Configurer configurer;
     @Getter @NonNull private final SerdesContext context;
     private Map<String, Object> data = new LinkedHashMap<>();
+    private boolean simplified = true;
 
     @Override
     public SerdesContext getWriterContext(@NonNull String key) {
@@ -57,6 +58,7 @@ public class SerializationData implements TypedKeyWriter {
      */
     public void clear() {
         this.data.clear();
+        this.simplified = true;
     }
 
     /**
@@ -66,13 +68,49 @@ public class SerializationData implements TypedKeyWriter {
         return Collections.unmodifiableMap(this.data);
     }
 
+    /**
+     * Checks whether all values were written in their simplified (conservative) form,
+     * i.e. through the simplifying setters or as raw strings, primitive wrappers or nulls.
+     *
+     * @return true if no value needs to be simplified again
+     */
+    public boolean isSimplified() {
+        return this.simplified;
+    }
+
+    /**
+     * Hands over the backing map without copying, leaving this instance empty.
+     * Intended for the configurer consuming the serializer output.
+     *
+     * @return mutable map of current serialization data
+     */
+    public Map<String, Object> release() {
+        Map<String, Object> data = this.data;
+        this.data = new LinkedHashMap<>();
+        this.simplified = true;
+        return data;
+    }
+
     // ==================== CORE WRITE METHOD ====================
 
     @Override
     public void setRaw(@NonNull String key, Object value) {
+        if (this.simplified && (value != null) && !isSimpleLiteral(value)) {
+            this.simplified = false;
+        }
+        this.data.put(key, value);
+    }
+
+    @Override
+    public void setSimplified(@NonNull String key, Object value) {
         this.data.put(key, value);
     }
 
+    // other numbers (e.g. BigDecimal) are not kept by conservative simplification
+    private static boolean isSimpleLiteral(Object value) {
+        return (value instanceof String) || GenericsDeclaration.of(value.getClass()).isPrimitiveWrapper();
+    }
+
     // ==================== VALUE METHODS ====================
 
     /**
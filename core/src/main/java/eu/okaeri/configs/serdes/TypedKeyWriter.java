@@ -41,6 +41,17 @@ public interface TypedKeyWriter {
      */
     void setRaw(@NonNull String key, Object value);
 
+    /**
+     * Sets a value that was already simplified by {@link #getConfigurer()} in conservative mode.
+     * Implementations may use it to avoid simplifying the value again.
+     *
+     * @param key the key
+     * @param value the simplified value
+     */
+    default void setSimplified(@NonNull String key, Object value) {
+        this.setRaw(key, value);
+    }
+
     /**
      * Gets the raw value at the specified key (for returning old value on set).
      * Implementations that don't track previous values can return null.
@@ -63,7 +74,7 @@ public interface TypedKeyWriter {
     default Object set(@NonNull String key, Object value) {
         Object old = this.getRawOrNull(key);
         value = this.getConfigurer().simplify(value, null, this.getWriterContext(key), true);
-        this.setRaw(key, value);
+        this.setSimplified(key, value);
         return old;
     }
 
@@ -78,7 +89,7 @@ public interface TypedKeyWriter {
     default Object set(@NonNull String key, Object value, @NonNull GenericsDeclaration genericType) {
         Object old = this.getRawOrNull(key);
         value = this.getConfigurer().simplify(value, genericType, this.getWriterContext(key), true);
-        this.setRaw(key, value);
+        this.setSimplified(key, value);
         return old;
     }
 
@@ -108,7 +119,7 @@ public interface TypedKeyWriter {
             return;
         }
         Object object = this.getConfigurer().simplifyCollection(collection, genericType, this.getWriterContext(key), true);
-        this.setRaw(key, object);
+        this.setSimplified(key, object);
     }
 
     /**
@@ -158,7 +169,7 @@ public interface TypedKeyWriter {
             return;
         }
         Object object = this.getConfigurer().simplifyMap((Map<Object, Object>) map, genericType, this.getWriterContext(key), true);
-        this.setRaw(key, object);
+        this.setSimplified(key, object);
     }
 
     /**
@@ -5,12 +5,27 @@ import eu.okaeri.configs.serdes.DeserializationData;
 import eu.okaeri.configs.serdes.ObjectSerializer;
 import eu.okaeri.configs.serdes.SerializationData;
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 
 public class ConfigSerializableSerializer implements ObjectSerializer<ConfigSerializable> {
 
+    private static final MethodType DESERIALIZE_TYPE = MethodType.methodType(ConfigSerializable.class, DeserializationData.class, GenericsDeclaration.class);
+
+    // static deserialize method is resolved and validated once per class
+    private static final ClassValue<DeserializeHandle> DESERIALIZERS = new ClassValue<DeserializeHandle>() {
+        @Override
+        protected DeserializeHandle computeValue(Class<?> type) {
+            return DeserializeHandle.resolve(type);
+        }
+    };
+
     @Override
     public boolean supports(@NonNull Class<?> type) {
         return ConfigSerializable.class.isAssignableFrom(type);
@@ -25,15 +40,50 @@ public class ConfigSerializableSerializer implements ObjectSerializer<ConfigSeri
     @SneakyThrows
     public ConfigSerializable deserialize(@NonNull DeserializationData data, @NonNull GenericsDeclaration generics) {
 
-        Method deserializeMethod;
-        try {
-            deserializeMethod = generics.getType().getMethod("deserialize", DeserializationData.class, GenericsDeclaration.class);
-        } catch (NoSuchMethodException exception) {
+        DeserializeHandle deserializer = DESERIALIZERS.get(generics.getType());
+        if (deserializer.handle == null) {
             throw new RuntimeException("public static " + generics.getType().getSimpleName() +
                 " deserialize(DeserializationData, GenericsDeclaration)" +
-                " method missing in ConfigSerializable " + generics.getType(), exception);
+                " method " + deserializer.problem + " in ConfigSerializable " + generics.getType(), deserializer.cause);
         }
 
-        return (ConfigSerializable) deserializeMethod.invoke(null, data, generics);
+        return (ConfigSerializable) deserializer.handle.invokeExact(data, generics);
+    }
+
+    @RequiredArgsConstructor
+    private static final class DeserializeHandle {
+
+        private final MethodHandle handle;
+        private final String problem;
+        private final Exception cause;
+
+        private static DeserializeHandle resolve(Class<?> type) {
+
+            Method method;
+            try {
+                method = type.getMethod("deserialize", DeserializationData.class, GenericsDeclaration.class);
+            } catch (NoSuchMethodException exception) {
+                return new DeserializeHandle(null, "missing", exception);
+            }
+
+            if (!Modifier.isStatic(method.getModifiers())) {
+                return new DeserializeHandle(null, "is not static", null);
+            }
+
+            if (!method.getReturnType().isAssignableFrom(type) && !type.isAssignableFrom(method.getReturnType())) {
+                return new DeserializeHandle(null, "has incompatible return type " + method.getReturnType().getName(), null);
+            }
+
+            try {
+                method.setAccessible(true);
+            } catch (Exception ignored) {
+            }
+
+            try {
+                return new DeserializeHandle(MethodHandles.lookup().unreflect(method).asType(DESERIALIZE_TYPE), null, null);
+            } catch (IllegalAccessException exception) {
+                return new DeserializeHandle(null, "is not accessible", exception);
+            }
+        }
     }
 }
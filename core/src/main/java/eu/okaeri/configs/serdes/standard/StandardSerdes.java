@@ -7,6 +7,25 @@ import lombok.NonNull;
 
 public class StandardSerdes implements OkaeriSerdes {
 
+    private static final SerdesRegistry SHARED_REGISTRY = createSharedRegistry();
+
+    /**
+     * Gets the process-wide frozen registry containing only the standard serdes.
+     * Used as the base of configurer registries, so the standard components
+     * are created and indexed once.
+     *
+     * @return shared frozen registry
+     */
+    public static SerdesRegistry sharedRegistry() {
+        return SHARED_REGISTRY;
+    }
+
+    private static SerdesRegistry createSharedRegistry() {
+        SerdesRegistry registry = new SerdesRegistry();
+        registry.register(new StandardSerdes());
+        return registry.freeze();
+    }
+
     @Override
     public void register(@NonNull SerdesRegistry registry) {
 
@@ -3,10 +3,9 @@ package eu.okaeri.configs.serdes.standard;
 import eu.okaeri.configs.schema.GenericsPair;
 import eu.okaeri.configs.serdes.ObjectTransformer;
 import eu.okaeri.configs.serdes.SerdesContext;
+import eu.okaeri.configs.util.Numbers;
 import lombok.NonNull;
 
-import java.math.BigDecimal;
-
 public class StringToByteTransformer extends ObjectTransformer<String, Byte> {
 
     @Override
@@ -17,7 +16,7 @@ public class StringToByteTransformer extends ObjectTransformer<String, Byte> {
     @Override
     public Byte transform(@NonNull String data, @NonNull SerdesContext serdesContext) {
         try {
-            return new BigDecimal(data).byteValueExact();
+            return Numbers.parseByteExact(data);
         } catch (NumberFormatException | ArithmeticException e) {
             throw new IllegalArgumentException("Expected byte number (-128 to 127)");
         }
@@ -3,10 +3,9 @@ package eu.okaeri.configs.serdes.standard;
 import eu.okaeri.configs.schema.GenericsPair;
 import eu.okaeri.configs.serdes.ObjectTransformer;
 import eu.okaeri.configs.serdes.SerdesContext;
+import eu.okaeri.configs.util.Numbers;
 import lombok.NonNull;
 
-import java.math.BigDecimal;
-
 public class StringToIntegerTransformer extends ObjectTransformer<String, Integer> {
 
     @Override
@@ -17,7 +16,7 @@ public class StringToIntegerTransformer extends ObjectTransformer<String, Intege
     @Override
     public Integer transform(@NonNull String data, @NonNull SerdesContext serdesContext) {
         try {
-            return new BigDecimal(data).intValueExact();
+            return Numbers.parseIntExact(data);
         } catch (NumberFormatException | ArithmeticException e) {
             throw new IllegalArgumentException("Expected whole number (e.g. 42, -10, 0)");
         }
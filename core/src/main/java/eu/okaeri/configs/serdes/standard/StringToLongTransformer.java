@@ -3,10 +3,9 @@ package eu.okaeri.configs.serdes.standard;
 import eu.okaeri.configs.schema.GenericsPair;
 import eu.okaeri.configs.serdes.ObjectTransformer;
 import eu.okaeri.configs.serdes.SerdesContext;
+import eu.okaeri.configs.util.Numbers;
 import lombok.NonNull;
 
-import java.math.BigDecimal;
-
 public class StringToLongTransformer extends ObjectTransformer<String, Long> {
 
     @Override
@@ -17,7 +16,7 @@ public class StringToLongTransformer extends ObjectTransformer<String, Long> {
     @Override
     public Long transform(@NonNull String data, @NonNull SerdesContext serdesContext) {
         try {
-            return new BigDecimal(data).longValueExact();
+            return Numbers.parseLongExact(data);
         } catch (NumberFormatException | ArithmeticException e) {
             throw new IllegalArgumentException("Expected long number (e.g. 42, -10, 9999999999)");
         }
@@ -3,10 +3,9 @@ package eu.okaeri.configs.serdes.standard;
 import eu.okaeri.configs.schema.GenericsPair;
 import eu.okaeri.configs.serdes.ObjectTransformer;
 import eu.okaeri.configs.serdes.SerdesContext;
+import eu.okaeri.configs.util.Numbers;
 import lombok.NonNull;
 
-import java.math.BigDecimal;
-
 public class StringToShortTransformer extends ObjectTransformer<String, Short> {
 
     @Override
@@ -17,7 +16,7 @@ public class StringToShortTransformer extends ObjectTransformer<String, Short> {
     @Override
     public Short transform(@NonNull String data, @NonNull SerdesContext serdesContext) {
         try {
-            return new BigDecimal(data).shortValueExact();
+            return Numbers.parseShortExact(data);
         } catch (NumberFormatException | ArithmeticException e) {
             throw new IllegalArgumentException("Expected short number (-32768 to 32767)");
         }
@@ -0,0 +1,89 @@
+package eu.okaeri.configs.util;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Cached per-enum lookup tables.
+ * <p>
+ * Exact names and case-folded names are hashed once per enum class, so resolving
+ * a value does not go through reflective {@code valueOf} calls or exception driven
+ * fallbacks. Case-insensitive lookup returns the first constant in declaration order.
+ *
+ * @deprecated Internal use only. May and will change without warning.
+ */
+@Deprecated
+@SuppressWarnings("DeprecatedIsStillUsed")
+public final class EnumTable<E extends Enum<E>> {
+
+    private static final ClassValue<EnumTable<?>> TABLES = new ClassValue<EnumTable<?>>() {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected EnumTable<?> computeValue(Class<?> type) {
+            return new EnumTable(type);
+        }
+    };
+
+    @Getter private final Class<E> type;
+    private final E[] constants;
+    private final Map<String, E> exact;
+    private final Map<String, E> folded;
+
+    private EnumTable(Class<E> type) {
+        this.type = type;
+        this.constants = type.getEnumConstants();
+        Map<String, E> exact = new HashMap<>();
+        Map<String, E> folded = new HashMap<>();
+        for (E constant : this.constants) {
+            exact.put(constant.name(), constant);
+            folded.putIfAbsent(fold(constant.name()), constant);
+        }
+        this.exact = Collections.unmodifiableMap(exact);
+        this.folded = Collections.unmodifiableMap(folded);
+    }
+
+    public static EnumTable<?> of(@NonNull Class<?> enumClazz) {
+        if (!enumClazz.isEnum()) {
+            throw new IllegalArgumentException("not an enum: " + enumClazz);
+        }
+        return TABLES.get(enumClazz);
+    }
+
+    /**
+     * Resolves the constant with exactly the given name,
+     * or the first constant matching it case-insensitively.
+     *
+     * @param name the name to resolve
+     * @return matching constant or null
+     */
+    public E resolve(@NonNull String name) {
+
+        E constant = this.exact.get(name);
+        if (constant != null) {
+            return constant;
+        }
+
+        constant = this.folded.get(fold(name));
+        if ((constant != null) && name.equalsIgnoreCase(constant.name())) {
+            return constant;
+        }
+
+        // folding may differ from equalsIgnoreCase for some characters
+        for (E value : this.constants) {
+            if (name.equalsIgnoreCase(value.name())) {
+                return value;
+            }
+        }
+
+        return null;
+    }
+
+    private static String fold(String name) {
+        return name.toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,128 @@
+package eu.okaeri.configs.util;
+
+import eu.okaeri.configs.exception.OkaeriException;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Cached per-class instance factory.
+ * <p>
+ * The public no-args constructor is resolved once into a {@link MethodHandle}.
+ * Classes without one fall back to {@code sun.misc.Unsafe#allocateInstance},
+ * which is also resolved only once per JVM.
+ *
+ * @deprecated Internal use only. May and will change without warning.
+ */
+@Deprecated
+@SuppressWarnings("DeprecatedIsStillUsed")
+public final class Instantiator<T> {
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+    private static final MethodHandle UNSAFE_ALLOCATOR = resolveUnsafeAllocator();
+
+    private static final ClassValue<Instantiator<?>> INSTANTIATORS = new ClassValue<Instantiator<?>>() {
+        @Override
+        protected Instantiator<?> computeValue(Class<?> type) {
+            return new Instantiator<>(type);
+        }
+    };
+
+    @Getter private final Class<T> type;
+    private final MethodHandle constructor;
+
+    private Instantiator(Class<T> type) {
+        this.type = type;
+        this.constructor = resolveConstructor(type);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> Instantiator<T> of(@NonNull Class<T> clazz) {
+        return (Instantiator<T>) INSTANTIATORS.get(clazz);
+    }
+
+    /**
+     * @return true if a public no-args constructor is available
+     */
+    public boolean hasConstructor() {
+        return this.constructor != null;
+    }
+
+    /**
+     * Creates an instance using the default constructor.
+     * Exceptions thrown by the constructor are propagated as-is.
+     *
+     * @return new instance
+     * @throws OkaeriException if no default constructor is available
+     */
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public T newInstance() throws OkaeriException {
+        if (this.constructor == null) {
+            throw new OkaeriException("no default constructor available for " + this.type);
+        }
+        return (T) (Object) this.constructor.invokeExact();
+    }
+
+    /**
+     * Creates an instance using the default constructor if available,
+     * otherwise allocates it without calling any constructor.
+     *
+     * @return new instance
+     * @throws OkaeriException if neither default constructor is available, nor unsafe allocation succeeded
+     */
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public T allocateInstance() throws OkaeriException {
+
+        if (this.constructor != null) {
+            return (T) (Object) this.constructor.invokeExact();
+        }
+
+        if (UNSAFE_ALLOCATOR != null) {
+            try {
+                return (T) (Object) UNSAFE_ALLOCATOR.invokeExact((Class<?>) this.type);
+            } catch (Exception ignored) {
+            }
+        }
+
+        throw new OkaeriException("failed to create " + this.type + " instance, neither default constructor available, nor unsafe succeeded");
+    }
+
+    private static MethodHandle resolveConstructor(Class<?> type) {
+
+        if (type.isInterface() || type.isArray() || type.isPrimitive() || Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+
+        try {
+            return MethodHandles.publicLookup()
+                .findConstructor(type, MethodType.methodType(void.class))
+                .asType(CONSTRUCTOR_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException | SecurityException exception) {
+            return null;
+        }
+    }
+
+    private static MethodHandle resolveUnsafeAllocator() {
+        try {
+            Class<?> unsafeClazz = Class.forName("sun.misc.Unsafe");
+            Field theUnsafeField = unsafeClazz.getDeclaredField("theUnsafe");
+            theUnsafeField.setAccessible(true);
+            Object unsafeInstance = theUnsafeField.get(null);
+            Method allocateInstance = unsafeClazz.getDeclaredMethod("allocateInstance", Class.class);
+            return MethodHandles.lookup().unreflect(allocateInstance)
+                .bindTo(unsafeInstance)
+                .asType(MethodType.methodType(Object.class, Class.class));
+        } catch (Exception exception) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package eu.okaeri.configs.util;
+
+import lombok.NonNull;
+
+import java.math.BigDecimal;
+
+/**
+ * Numeric parsing and conversion helpers.
+ * <p>
+ * Plain integer literals (optional sign and up to 18 digits) are parsed without
+ * allocation, everything else (decimals, exponents, large values) falls back to
+ * {@link BigDecimal} with the same exactness rules as {@code BigDecimal#xxxValueExact()}.
+ * Number to number conversions are performed directly when the result is exactly
+ * the same as going through the decimal string representation of the value.
+ */
+public final class Numbers {
+
+    private static final int MAX_FAST_DIGITS = 18;
+    private static final double MAX_EXACT_DOUBLE = 9007199254740992d; // 2^53
+    private static final float MAX_EXACT_FLOAT = 16777216f; // 2^24
+
+    private Numbers() {
+    }
+
+    /**
+     * @param data the text to parse
+     * @return exact long value
+     * @throws NumberFormatException if the text is not a number
+     * @throws ArithmeticException   if the number has a fractional part or does not fit
+     */
+    public static long parseLongExact(@NonNull String data) {
+
+        int length = data.length();
+        int start = ((length > 0) && ((data.charAt(0) == '-') || (data.charAt(0) == '+'))) ? 1 : 0;
+        int digits = length - start;
+
+        if ((digits > 0) && (digits <= MAX_FAST_DIGITS)) {
+            long value = 0;
+            for (int i = start; i < length; i++) {
+                int digit = data.charAt(i) - '0';
+                if ((digit < 0) || (digit > 9)) {
+                    return new BigDecimal(data).longValueExact();
+                }
+                value = (value * 10) + digit;
+            }
+            return (data.charAt(0) == '-') ? -value : value;
+        }
+
+        return new BigDecimal(data).longValueExact();
+    }
+
+    public static int parseIntExact(@NonNull String data) {
+        long value = parseLongExact(data);
+        if ((value < Integer.MIN_VALUE) || (value > Integer.MAX_VALUE)) {
+            throw new ArithmeticException("Overflow");
+        }
+        return (int) value;
+    }
+
+    public static short parseShortExact(@NonNull String data) {
+        long value = parseLongExact(data);
+        if ((value < Short.MIN_VALUE) || (value > Short.MAX_VALUE)) {
+            throw new ArithmeticException("Overflow");
+        }
+        return (short) value;
+    }
+
+    public static byte parseByteExact(@NonNull String data) {
+        long value = parseLongExact(data);
+        if ((value < Byte.MIN_VALUE) || (value > Byte.MAX_VALUE)) {
+            throw new ArithmeticException("Overflow");
+        }
+        return (byte) value;
+    }
+
+    /**
+     * Converts a primitive wrapper number to another primitive wrapper type.
+     * <p>
+     * Results are always boxed again, also for the same type, so values are canonical
+     * (e.g. cached small {@code Integer} instances) like when parsed from their string form.
+     *
+     * @param value  the value to convert
+     * @param target the target wrapper type
+     * @return converted value or null if no exact direct conversion is possible
+     */
+    public static Number convert(@NonNull Number value, @NonNull Class<?> target) {
+
+        // integral source
+        if ((value instanceof Integer) || (value instanceof Long) || (value instanceof Short) || (value instanceof Byte)) {
+            return fromLong(value.longValue(), target);
+        }
+
+        // floating point source
+        if (value instanceof Double) {
+            return fromDouble(value.doubleValue(), MAX_EXACT_DOUBLE, target);
+        }
+
+        if (value instanceof Float) {
+            float floatValue = value.floatValue();
+            if (target == Double.class) {
+                // keeps the decimal representation, e.g. 0.1f becomes 0.1d
+                return Double.parseDouble(Float.toString(floatValue));
+            }
+            return fromDouble(floatValue, MAX_EXACT_FLOAT, target);
+        }
+
+        return null;
+    }
+
+    /**
+     * Checks whether the primitive wrapper number converts exactly to an integral type,
+     * following the same rules as {@link #convert(Number, Class)}.
+     *
+     * @param value the value to check
+     * @return true for integral wrappers and whole floating point values within the exact range
+     */
+    public static boolean isExactIntegral(@NonNull Number value) {
+        if ((value instanceof Integer) || (value instanceof Long) || (value instanceof Short) || (value instanceof Byte)) {
+            return true;
+        }
+        if (value instanceof Double) {
+            return isExactWhole(value.doubleValue(), MAX_EXACT_DOUBLE);
+        }
+        if (value instanceof Float) {
+            return isExactWhole(value.floatValue(), MAX_EXACT_FLOAT);
+        }
+        return false;
+    }
+
+    private static boolean isExactWhole(double value, double maxExact) {
+        return (value == Math.rint(value)) && (Math.abs(value) < maxExact);
+    }
+
+    private static Number fromLong(long value, Class<?> target) {
+        if (target == Long.class) {
+            return value;
+        }
+        if (target == Integer.class) {
+            return ((value < Integer.MIN_VALUE) || (value > Integer.MAX_VALUE)) ? null : (int) value;
+        }
+        if (target == Short.class) {
+            return ((value < Short.MIN_VALUE) || (value > Short.MAX_VALUE)) ? null : (short) value;
+        }
+        if (target == Byte.class) {
+            return ((value < Byte.MIN_VALUE) || (value > Byte.MAX_VALUE)) ? null : (byte) value;
+        }
+        if (target == Double.class) {
+            return (double) value;
+        }
+        if (target == Float.class) {
+            return (float) value;
+        }
+        return null;
+    }
+
+    private static Number fromDouble(double value, double maxExact, Class<?> target) {
+        if (target == Float.class) {
+            return (float) value;
+        }
+        if (target == Double.class) {
+            return value;
+        }
+        // integral targets: only whole values that are exactly represented by their decimal form
+        if (!isExactWhole(value, maxExact)) {
+            return null;
+        }
+        return fromLong((long) value, target);
+    }
+}
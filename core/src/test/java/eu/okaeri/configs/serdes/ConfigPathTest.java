@@ -136,4 +136,25 @@ class ConfigPathTest {
         ConfigPath path = ConfigPath.of("settings").key("path\\to\\file");
         assertThat(path.toString()).isEqualTo("settings[\"path\\\\to\\\\file\"]");
     }
+
+    @Test
+    void testEqualityOfSeparatelyBuiltPaths() {
+        ConfigPath first = ConfigPath.of("servers").index(0).key("main").index(1000);
+        ConfigPath second = ConfigPath.parse("servers[0][\"main\"][1000]");
+        assertThat(first).isEqualTo(second);
+        assertThat(first.hashCode()).isEqualTo(second.hashCode());
+        assertThat(first).isNotEqualTo(ConfigPath.of("servers").index(0).key("main"));
+        assertThat(ConfigPath.of("settings").property("main")).isEqualTo(ConfigPath.of("settings").key("main"));
+    }
+
+    @Test
+    void testSiblingsShareParent() {
+        ConfigPath list = ConfigPath.of("servers");
+        ConfigPath first = list.index(0);
+        ConfigPath second = list.index(1);
+        assertThat(first.parent()).isSameAs(list);
+        assertThat(second.parent()).isSameAs(list);
+        assertThat(second.subPath(0)).isSameAs(list);
+        assertThat(second.getNodes()).containsExactly(new ConfigPath.PropertyNode("servers"), new ConfigPath.IndexNode(1));
+    }
 }
@@ -2,11 +2,26 @@ package eu.okaeri.configs.serdes.adventure;
 
 import eu.okaeri.configs.serdes.adventure.serializer.MiniComponentSerializer;
 import eu.okaeri.configs.serdes.adventure.serializer.TextColorSerializer;
-import eu.okaeri.configs.serdes.OkaeriSerdes;
+import eu.okaeri.configs.serdes.DiscoverableSerdes;
 import eu.okaeri.configs.serdes.SerdesRegistry;
 import lombok.NonNull;
 
-public class SerdesAdventure implements OkaeriSerdes {
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+public class SerdesAdventure implements DiscoverableSerdes {
+
+    private static final Set<String> HANDLED_TYPES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+        "net.kyori.adventure.text.Component",
+        "net.kyori.adventure.text.format.TextColor"
+    )));
+
+    @Override
+    public Set<String> getHandledTypes() {
+        return HANDLED_TYPES;
+    }
 
     @Override
     public void register(@NonNull SerdesRegistry registry) {
@@ -1,13 +1,29 @@
 package eu.okaeri.configs.serdes.bucket4j;
 
-import eu.okaeri.configs.serdes.OkaeriSerdes;
+import eu.okaeri.configs.serdes.DiscoverableSerdes;
 import eu.okaeri.configs.serdes.SerdesRegistry;
 import eu.okaeri.configs.serdes.bucket4j.serializer.BandwidthSerializer;
 import eu.okaeri.configs.serdes.bucket4j.serializer.BucketConfigurationSerializer;
 import eu.okaeri.configs.serdes.bucket4j.serializer.SingleBandwidthBucketSerializer;
 import lombok.NonNull;
 
-public class SerdesBucket4j implements OkaeriSerdes {
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+public class SerdesBucket4j implements DiscoverableSerdes {
+
+    private static final Set<String> HANDLED_TYPES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+        "io.github.bucket4j.Bandwidth",
+        "io.github.bucket4j.BucketConfiguration",
+        "eu.okaeri.configs.serdes.bucket4j.wrapper.SingleBandwidthBucket"
+    )));
+
+    @Override
+    public Set<String> getHandledTypes() {
+        return HANDLED_TYPES;
+    }
 
     @Override
     public void register(@NonNull SerdesRegistry registry) {
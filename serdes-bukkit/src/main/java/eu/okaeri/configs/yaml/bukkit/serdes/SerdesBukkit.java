@@ -1,6 +1,6 @@
 package eu.okaeri.configs.yaml.bukkit.serdes;
 
-import eu.okaeri.configs.serdes.OkaeriSerdes;
+import eu.okaeri.configs.serdes.DiscoverableSerdes;
 import eu.okaeri.configs.serdes.SerdesRegistry;
 import eu.okaeri.configs.yaml.bukkit.serdes.itemstack.ItemStackAttachmentResolver;
 import eu.okaeri.configs.yaml.bukkit.serdes.serializer.*;
@@ -8,7 +8,30 @@ import eu.okaeri.configs.yaml.bukkit.serdes.transformer.*;
 import lombok.NonNull;
 import org.bukkit.block.Biome;
 
-public class SerdesBukkit implements OkaeriSerdes {
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+public class SerdesBukkit implements DiscoverableSerdes {
+
+    private static final Set<String> HANDLED_TYPES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+        "org.bukkit.inventory.meta.ItemMeta",
+        "org.bukkit.inventory.ItemStack",
+        "org.bukkit.Location",
+        "org.bukkit.potion.PotionEffect",
+        "org.bukkit.util.Vector",
+        "org.bukkit.block.Biome",
+        "org.bukkit.enchantments.Enchantment",
+        "org.bukkit.potion.PotionEffectType",
+        "org.bukkit.Tag",
+        "org.bukkit.World"
+    )));
+
+    @Override
+    public Set<String> getHandledTypes() {
+        return HANDLED_TYPES;
+    }
 
     @Override
     public void register(@NonNull SerdesRegistry registry) {
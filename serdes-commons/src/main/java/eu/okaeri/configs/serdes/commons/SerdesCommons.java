@@ -1,6 +1,6 @@
 package eu.okaeri.configs.serdes.commons;
 
-import eu.okaeri.configs.serdes.OkaeriSerdes;
+import eu.okaeri.configs.serdes.DiscoverableSerdes;
 import eu.okaeri.configs.serdes.SerdesRegistry;
 import eu.okaeri.configs.serdes.commons.duration.DurationAttachmentResolver;
 import eu.okaeri.configs.serdes.commons.duration.DurationTransformer;
@@ -9,8 +9,25 @@ import eu.okaeri.configs.serdes.commons.transformer.LocaleTransformer;
 import eu.okaeri.configs.serdes.commons.transformer.PatternTransformer;
 import lombok.NonNull;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
 // types that exceed standard typeset
-public class SerdesCommons implements OkaeriSerdes {
+public class SerdesCommons implements DiscoverableSerdes {
+
+    private static final Set<String> HANDLED_TYPES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+        "java.time.Duration",
+        "java.time.Instant",
+        "java.util.Locale",
+        "java.util.regex.Pattern"
+    )));
+
+    @Override
+    public Set<String> getHandledTypes() {
+        return HANDLED_TYPES;
+    }
 
     @Override
     public void register(@NonNull SerdesRegistry registry) {
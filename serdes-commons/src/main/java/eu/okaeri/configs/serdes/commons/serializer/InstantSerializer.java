@@ -4,10 +4,10 @@ import eu.okaeri.configs.schema.GenericsDeclaration;
 import eu.okaeri.configs.serdes.DeserializationData;
 import eu.okaeri.configs.serdes.ObjectSerializer;
 import eu.okaeri.configs.serdes.SerializationData;
+import eu.okaeri.configs.util.Numbers;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 
 @RequiredArgsConstructor
@@ -33,7 +33,7 @@ public class InstantSerializer implements ObjectSerializer<Instant> {
     public Instant deserialize(@NonNull DeserializationData data, @NonNull GenericsDeclaration generics) {
         String str = data.getValue(String.class);
         try {
-            long epochMilli = new BigDecimal(str).longValueExact();
+            long epochMilli = Numbers.parseLongExact(str);
             return Instant.ofEpochMilli(epochMilli);
         }
         catch (NumberFormatException e) {
@@ -1,13 +1,34 @@
 package eu.okaeri.configs.serdes.okaeri;
 
-import eu.okaeri.configs.serdes.OkaeriSerdes;
+import eu.okaeri.configs.serdes.DiscoverableSerdes;
 import eu.okaeri.configs.serdes.SerdesRegistry;
 import eu.okaeri.configs.serdes.okaeri.indexedset.IndexedSetAttachmentResolver;
 import eu.okaeri.configs.serdes.okaeri.indexedset.IndexedSetSerializer;
 import eu.okaeri.configs.serdes.okaeri.range.*;
 import lombok.NonNull;
 
-public class SerdesOkaeri implements OkaeriSerdes {
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+public class SerdesOkaeri implements DiscoverableSerdes {
+
+    private static final Set<String> HANDLED_TYPES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+        "eu.okaeri.commons.indexedset.IndexedSet",
+        "eu.okaeri.commons.RomanNumeral",
+        "eu.okaeri.commons.range.ByteRange",
+        "eu.okaeri.commons.range.ShortRange",
+        "eu.okaeri.commons.range.IntRange",
+        "eu.okaeri.commons.range.LongRange",
+        "eu.okaeri.commons.range.FloatRange",
+        "eu.okaeri.commons.range.DoubleRange"
+    )));
+
+    @Override
+    public Set<String> getHandledTypes() {
+        return HANDLED_TYPES;
+    }
 
     @Override
     public void register(@NonNull SerdesRegistry registry) {